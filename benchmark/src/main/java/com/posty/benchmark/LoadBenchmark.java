@@ -0,0 +1,163 @@
+package com.posty.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 API에 동시 요청을 보내 처리량과 응답 시간을 재는 부하 도구
+ * <p>
+ * 실행: ./gradlew :benchmark:loadBenchmark -Purl=http://localhost:12684/files/a.jpg [-Pconcurrency=200] [-Pduration=30] [-Pheaders="X-API-KEY: ...|Authorization: Bearer ..."]
+ * <br>
+ * 대상 서비스를 spring.threads.virtual.enabled=false/true로 각각 띄워 같은 조건으로 실행한 뒤 결과를 비교한다.
+ */
+public class LoadBenchmark {
+
+    private static final int DEFAULT_CONCURRENCY = 100;
+    private static final long DEFAULT_DURATION_SECONDS = 30;
+
+    public record Result(long requests, long errors, Duration elapsed, long p50Micros, long p99Micros) {
+
+        public double throughput() {
+            return requests * 1_000_000_000.0 / elapsed.toNanos();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1 || args[0].isBlank()) {
+            System.err.println("Usage: LoadBenchmark <url> [concurrency] [durationSeconds] [headers]");
+            System.exit(1);
+        }
+
+        URI uri = URI.create(args[0]);
+        int concurrency = args.length > 1 && !args[1].isBlank() ? Integer.parseInt(args[1]) : DEFAULT_CONCURRENCY;
+        long durationSeconds = args.length > 2 && !args[2].isBlank() ? Long.parseLong(args[2]) : DEFAULT_DURATION_SECONDS;
+        List<String> headers = args.length > 3 && !args[3].isBlank() ? List.of(args[3].split("\\|")) : List.of();
+
+        Result result = run(uri, concurrency, Duration.ofSeconds(durationSeconds), headers);
+        System.out.printf(
+                "Requests: %d (errors: %d) in %.1fs with %d clients%nThroughput: %.1f req/s%nLatency p50: %.2f ms, p99: %.2f ms%n",
+                result.requests(), result.errors(), result.elapsed().toMillis() / 1000.0, concurrency,
+                result.throughput(), result.p50Micros() / 1000.0, result.p99Micros() / 1000.0
+        );
+    }
+
+    // 각 클라이언트는 응답을 받는 즉시 다음 요청을 보냄 (2xx/3xx가 아니거나 연결에 실패하면 오류로 셈)
+    public static Result run(URI uri, int concurrency, Duration duration, List<String> headers) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = createRequest(uri, headers);
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + duration.toNanos();
+
+        List<Future<ClientResult>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> sendUntil(httpClient, request, deadlineNanos)));
+        }
+
+        List<ClientResult> clientResults = new ArrayList<>(concurrency);
+        try {
+            for (Future<ClientResult> future : futures) {
+                clientResults.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Benchmark client failed", e.getCause());
+        } finally {
+            clients.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        return summarize(clientResults, elapsed);
+    }
+
+    private static HttpRequest createRequest(URI uri, List<String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+
+        for (String header : headers) {
+            int separator = header.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Header must be 'Name: value': " + header);
+            }
+            builder.header(header.substring(0, separator).trim(), header.substring(separator + 1).trim());
+        }
+        return builder.build();
+    }
+
+    private static ClientResult sendUntil(HttpClient httpClient, HttpRequest request, long deadlineNanos) throws InterruptedException {
+        ClientResult result = new ClientResult();
+
+        while (System.nanoTime() < deadlineNanos) {
+            long sentNanos = System.nanoTime();
+            boolean success;
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status < 400;
+            } catch (IOException e) {
+                success = false;
+            }
+            result.record((System.nanoTime() - sentNanos) / 1000, success);
+        }
+        return result;
+    }
+
+    private static Result summarize(List<ClientResult> clientResults, Duration elapsed) {
+        long requests = 0;
+        long errors = 0;
+        for (ClientResult clientResult : clientResults) {
+            requests += clientResult.count;
+            errors += clientResult.errors;
+        }
+
+        long[] latencies = new long[(int) requests];
+        int offset = 0;
+        for (ClientResult clientResult : clientResults) {
+            System.arraycopy(clientResult.latencyMicros, 0, latencies, offset, clientResult.count);
+            offset += clientResult.count;
+        }
+        Arrays.sort(latencies);
+
+        return new Result(requests, errors, elapsed, percentile(latencies, 0.5), percentile(latencies, 0.99));
+    }
+
+    private static long percentile(long[] sorted, double ratio) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sorted.length * ratio) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    // 클라이언트 스레드 하나가 모은 결과 (다른 스레드와 공유하지 않음)
+    private static class ClientResult {
+
+        private long[] latencyMicros = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latency, boolean success) {
+            if (count == latencyMicros.length) {
+                latencyMicros = Arrays.copyOf(latencyMicros, count * 2);
+            }
+            latencyMicros[count++] = latency;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+}
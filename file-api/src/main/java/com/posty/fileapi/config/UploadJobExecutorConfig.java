@@ -0,0 +1,26 @@
+package com.posty.fileapi.config;
+
+import com.posty.fileapi.properties.UploadJobConfig;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class UploadJobExecutorConfig {
+
+    // 대기열이 가득 차면 작업을 거절하여 느린 원본 서버 때문에 요청이 무한히 쌓이지 않도록 함
+    // 가상 스레드 모드에서도 poolSize는 동시 다운로드/검사 수 제한으로 유지하고, 작업 스레드만 가상 스레드로 만듦
+    @Bean
+    public ThreadPoolTaskExecutor uploadJobExecutor(UploadJobConfig uploadJobConfig, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadJobConfig.getPoolSize());
+        executor.setMaxPoolSize(uploadJobConfig.getPoolSize());
+        executor.setQueueCapacity(uploadJobConfig.getQueueCapacity());
+        executor.setThreadNamePrefix("upload-job-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -2,33 +2,55 @@ package com.posty.fileapi.controller;
 
 import com.posty.fileapi.dto.FileUploadRequest;
 import com.posty.fileapi.dto.FileUploadResponse;
-import com.posty.fileapi.error.FileIOException;
+import com.posty.fileapi.dto.UploadJobRequest;
+import com.posty.fileapi.dto.UploadJobResponse;
+import com.posty.fileapi.infrastructure.FileReferenceIndex;
 import com.posty.fileapi.properties.ApiConfig;
+import com.posty.fileapi.service.ByteRange;
 import com.posty.fileapi.service.FileService;
+import com.posty.fileapi.service.FileStreamResult;
+import com.posty.fileapi.service.FileStreamService;
+import com.posty.fileapi.service.StoredFile;
+import com.posty.fileapi.service.UploadJobService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.http.*;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 
 @Slf4j
 @RestController
 @Validated
 public class FileController {
 
+    private static final CacheControl IMMUTABLE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
     private final FileService fileService;
+    private final FileStreamService fileStreamService;
+    private final UploadJobService uploadJobService;
 
     private final String externalUrl;
 
-    public FileController(FileService fileService, ApiConfig apiConfig) {
+    public FileController(
+            FileService fileService,
+            FileStreamService fileStreamService,
+            UploadJobService uploadJobService,
+            ApiConfig apiConfig
+    ) {
         this.fileService = fileService;
+        this.fileStreamService = fileStreamService;
+        this.uploadJobService = uploadJobService;
 
         externalUrl = apiConfig.getExternalUrl();
     }
@@ -39,61 +61,117 @@ public class FileController {
     public void favicon() {
     }
 
+    /**
+     * 저장된 파일 조회 (Range 요청 시 206, 여러 범위면 multipart/byteranges)
+     * <p>
+     * 저장된 파일은 바뀌지 않으므로 파일명으로 만든 ETag와 오래 유지되는 캐시 헤더를 함께 보내며,
+     * <br>
+     * If-None-Match / If-Modified-Since가 일치하면 본문 없이 304로 응답한다.
+     */
     @GetMapping("/{fileName}")
-    public ResponseEntity<ResourceRegion> getFile(
+    public ResponseEntity<StreamingResponseBody> getFile(
             @PathVariable @NotBlank String fileName,
-            @RequestHeader HttpHeaders headers
+            @RequestHeader HttpHeaders headers,
+            ServletWebRequest webRequest
     ) {
-        Resource resource = fileService.getFileResource(fileName);
+        StoredFile storedFile = fileService.getStoredFile(fileName);
 
-        long contentLength;
-        try {
-            contentLength = resource.contentLength();
-        } catch (IOException e) {
-            throw new FileIOException("Failed to read file size");
+        if (webRequest.checkNotModified(storedFile.eTag(), storedFile.lastModified())) {
+            return null;
         }
 
-        MediaType mediaType = MediaTypeFactory
-                .getMediaType(resource)
-                .orElse(org.springframework.http.MediaType.APPLICATION_OCTET_STREAM);
-
-        if (headers.getRange().isEmpty()) {
-            ResourceRegion region = new ResourceRegion(resource, 0, contentLength);
-            return ResponseEntity.ok()
-                    .contentType(mediaType)
-                    .body(region);
+        List<ByteRange> ranges = fileStreamService.resolveRanges(
+                storedFile,
+                headers.getFirst(HttpHeaders.RANGE),
+                headers.getFirst(HttpHeaders.IF_RANGE)
+        );
+        FileStreamResult result = fileStreamService.open(storedFile, ranges, webRequest.getRequest());
+
+        ResponseEntity.BodyBuilder builder = result.partial()
+                ? ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                : ResponseEntity.ok();
+        if (result.contentRange() != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, result.contentRange());
         }
 
-        HttpRange range = headers.getRange().get(0);
-        long start = range.getRangeStart(contentLength);
-        long end = range.getRangeEnd(contentLength);
-        long rangeLength = end - start + 1;
-
-        ResourceRegion region = new ResourceRegion(resource, start, rangeLength);
+        builder.contentType(MediaType.parseMediaType(result.contentType()))
+                .contentLength(result.contentLength())
+                .eTag(storedFile.eTag())
+                .lastModified(storedFile.lastModified())
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
 
-        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                .contentType(mediaType)
-                .body(region);
+        // sendfile이면 컨테이너가 파일을 보냄
+        if (result.body() == null) {
+            return builder.build();
+        }
+        return builder.body(result.body());
     }
 
     @PostMapping
     public ResponseEntity<FileUploadResponse> upload(@Valid @RequestBody FileUploadRequest request) {
-        String fileName = fileService.storeFile(request.mediaType(), request.originUrl());
+        String fileName = fileService.storeFile(request.mediaType(), request.originUrl(), request.referenceId());
+
+        URI location = createFileUri(fileName);
+
+        return ResponseEntity
+                .created(location)
+                .body(new FileUploadResponse(location.toString(), fileName));
+    }
+
+    /**
+     * 파일 저장을 비동기 작업으로 요청 (202)
+     * <p>
+     * 원본 다운로드를 기다리지 않고 작업 ID를 바로 반환하며, 결과는 Location의 상태 조회나 callbackUrl로 받는다.
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<UploadJobResponse> submitUploadJob(@Valid @RequestBody UploadJobRequest request) {
+        UploadJobResponse job = uploadJobService.submit(request);
 
         URI location = ServletUriComponentsBuilder
                 .fromUriString(externalUrl)
-                .pathSegment(fileName)
+                .pathSegment("jobs", job.jobId())
                 .build()
                 .toUri();
 
         return ResponseEntity
-                .created(location)
-                .body(new FileUploadResponse(location.toString(), fileName));
+                .accepted()
+                .location(location)
+                .body(job);
     }
 
-    @DeleteMapping("/{fileName}")
-    public ResponseEntity<Void> deleteFile(@PathVariable @NotBlank String fileName) {
-        fileService.deleteFile(fileName);
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<UploadJobResponse> getUploadJob(@PathVariable @NotBlank String jobId) {
+        return ResponseEntity.ok(uploadJobService.getJob(jobId));
+    }
+
+    // 이미 저장된 파일을 다시 내려받지 않고 재사용 (같은 referenceId로 다시 요청해도 참조는 하나)
+    @PostMapping("/{fileName}/references/{referenceId}")
+    public ResponseEntity<FileUploadResponse> addReference(
+            @PathVariable @NotBlank String fileName,
+            @PathVariable @Pattern(regexp = FileReferenceIndex.REFERENCE_ID_PATTERN) String referenceId
+    ) {
+        String storedFilename = fileService.addReference(fileName, referenceId);
+        URI location = createFileUri(storedFilename);
+
+        return ResponseEntity.ok(new FileUploadResponse(location.toString(), storedFilename));
+    }
+
+    // 마지막 참조가 해제되면 파일을 삭제 (이미 해제된 참조나 없는 파일도 204)
+    @DeleteMapping("/{fileName}/references/{referenceId}")
+    public ResponseEntity<Void> releaseReference(
+            @PathVariable @NotBlank String fileName,
+            @PathVariable @Pattern(regexp = FileReferenceIndex.REFERENCE_ID_PATTERN) String referenceId
+    ) {
+        fileService.releaseReference(fileName, referenceId);
         return ResponseEntity.noContent().build();
     }
+
+    private URI createFileUri(String fileName) {
+        return ServletUriComponentsBuilder
+                .fromUriString(externalUrl)
+                .pathSegment(fileName)
+                .build()
+                .toUri();
+    }
 }
@@ -1,11 +1,17 @@
 package com.posty.fileapi.dto;
 
+import com.posty.fileapi.infrastructure.FileReferenceIndex;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import org.hibernate.validator.constraints.URL;
 
+/**
+ * @param referenceId 저장된 파일을 사용하는 쪽의 ID (미디어 ID, 삭제할 때 같은 값으로 참조를 해제)
+ */
 public record FileUploadRequest(
         @NotNull MediaType mediaType,
-        @NotBlank @URL String originUrl
+        @NotBlank @URL String originUrl,
+        @NotNull @Pattern(regexp = FileReferenceIndex.REFERENCE_ID_PATTERN) String referenceId
 ) {
 }
@@ -0,0 +1,35 @@
+package com.posty.fileapi.dto;
+
+/**
+ * 업로드 작업 상태
+ * <p>
+ * storedUrl, storedFilename은 COMPLETED일 때만, error는 FAILED일 때만 값이 있음
+ */
+public record UploadJobResponse(
+        String jobId,
+        UploadJobStatus status,
+        String storedUrl,
+        String storedFilename,
+        String error
+) {
+
+    public static UploadJobResponse pending(String jobId) {
+        return new UploadJobResponse(jobId, UploadJobStatus.PENDING, null, null, null);
+    }
+
+    public UploadJobResponse running() {
+        return new UploadJobResponse(jobId, UploadJobStatus.RUNNING, null, null, null);
+    }
+
+    public UploadJobResponse completed(String storedUrl, String storedFilename) {
+        return new UploadJobResponse(jobId, UploadJobStatus.COMPLETED, storedUrl, storedFilename, null);
+    }
+
+    public UploadJobResponse failed(String error) {
+        return new UploadJobResponse(jobId, UploadJobStatus.FAILED, null, null, error);
+    }
+
+    public boolean isFinished() {
+        return status == UploadJobStatus.COMPLETED || status == UploadJobStatus.FAILED;
+    }
+}
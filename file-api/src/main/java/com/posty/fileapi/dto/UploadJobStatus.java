@@ -0,0 +1,8 @@
+package com.posty.fileapi.dto;
+
+public enum UploadJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+}
@@ -2,6 +2,7 @@ package com.posty.fileapi.error;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -56,7 +57,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({
             InvalidFileException.class,
-            InvalidURLException.class
+            InvalidURLException.class,
+            InvalidCallbackURLException.class
     })
     public ResponseEntity<String> handleCustomBadRequest(RuntimeException e) {
         log.error("{}", e.getMessage(), e);
@@ -73,14 +75,33 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
-    @ExceptionHandler(InvalidRangeException.class)
-    public ResponseEntity<String> handleInvalidRange(InvalidRangeException e) {
+    @ExceptionHandler(UploadJobNotFoundException.class)
+    public ResponseEntity<Void> handleUploadJobNotFound(UploadJobNotFoundException e) {
+        log.error("{}", e.getMessage(), e);
+        return ResponseEntity
+                .notFound()
+                .build();
+    }
+
+    @ExceptionHandler(UploadJobRejectedException.class)
+    public ResponseEntity<String> handleUploadJobRejected(UploadJobRejectedException e) {
         log.error("{}", e.getMessage(), e);
         return ResponseEntity
-                .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body(e.getMessage());
     }
 
+    @ExceptionHandler(InvalidRangeException.class)
+    public ResponseEntity<String> handleInvalidRange(InvalidRangeException e) {
+        log.error("{}", e.getMessage(), e);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        if (e.getTotalSize() >= 0) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes */" + e.getTotalSize());
+        }
+        return builder.body(e.getMessage());
+    }
+
     @ExceptionHandler(FileIOException.class)
     public ResponseEntity<Void> handleFileRead(FileIOException e) {
         log.error("{}", e.getMessage(), e);
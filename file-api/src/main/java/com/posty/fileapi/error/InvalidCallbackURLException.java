@@ -0,0 +1,8 @@
+package com.posty.fileapi.error;
+
+public class InvalidCallbackURLException extends RuntimeException {
+
+    public InvalidCallbackURLException() {
+        super("Callback URL is not allowed!");
+    }
+}
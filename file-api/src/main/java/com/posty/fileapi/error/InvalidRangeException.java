@@ -1,8 +1,19 @@
 package com.posty.fileapi.error;
 
+import lombok.Getter;
+
+@Getter
 public class InvalidRangeException extends RuntimeException {
 
+    // 알 수 없으면 -1
+    private final long totalSize;
+
     public InvalidRangeException(String message) {
+        this(message, -1);
+    }
+
+    public InvalidRangeException(String message, long totalSize) {
         super(message);
+        this.totalSize = totalSize;
     }
 }
@@ -0,0 +1,8 @@
+package com.posty.fileapi.error;
+
+public class UploadJobNotFoundException extends RuntimeException {
+
+    public UploadJobNotFoundException(String jobId) {
+        super("Upload job " + jobId + " not found.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.posty.fileapi.error;
+
+public class UploadJobRejectedException extends RuntimeException {
+
+    public UploadJobRejectedException() {
+        super("Too many upload jobs in progress!");
+    }
+}
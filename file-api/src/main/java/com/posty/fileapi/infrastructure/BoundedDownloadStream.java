@@ -0,0 +1,76 @@
+package com.posty.fileapi.infrastructure;
+
+import com.posty.fileapi.error.InvalidFileException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 원본에서 받은 크기와 전체 전송 시간을 제한하는 스트림
+ * <p>
+ * 받은 크기가 maxSize(byte)를 넘거나 deadline(System.nanoTime 기준)이 지나면 그 즉시 읽기를 중단한다.
+ * <br>
+ * readTimeout은 읽기 한 번의 대기 시간만 제한하므로, 조금씩 오래 보내는 원본은 이 스트림의 deadline으로 끊는다.
+ */
+class BoundedDownloadStream extends FilterInputStream {
+
+    private final long maxSize;
+    private final long deadlineNanos;
+
+    private long received;
+
+    BoundedDownloadStream(InputStream in, long maxSize, long deadlineNanos) {
+        super(in);
+        this.maxSize = maxSize;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkDeadline();
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkDeadline();
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        checkDeadline();
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    // 아래쪽 스트림을 다시 읽지 않도록 mark/reset은 바깥의 버퍼 스트림에 맡김
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long read) throws IOException {
+        received += read;
+        if (received > maxSize) {
+            throw new InvalidFileException("Invalid file size!");
+        }
+        checkDeadline();
+    }
+
+    private void checkDeadline() throws IOException {
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new IOException("File download exceeded total timeout after " + received + " bytes");
+        }
+    }
+}
@@ -1,49 +1,202 @@
 package com.posty.fileapi.infrastructure;
 
 import com.posty.fileapi.properties.ClamAVConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.io.FileInputStream;
-import java.io.OutputStream;
-import java.net.Socket;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * clamd IDSESSION 연결을 재사용하는 검사기
+ * <p>
+ * 동시에 열 수 있는 연결은 poolSize개로 제한하며, 검사가 끝난 연결은 반납하여 다음 검사에서 다시 사용한다.
+ * <br>
+ * clamd는 일정 시간 요청이 없는 세션을 닫으므로 sessionIdleTimeout보다 오래 쉰 연결은 버리고 새로 연결한다.
+ */
+@Slf4j
 @Component
 public class ClamAVScanner {
 
     private final String host;
     private final int port;
+    private final int chunkSize;
+    private final int connectTimeout;
+    private final int scanTimeout;
+    private final long sessionIdleTimeoutNanos;
+    private final boolean streamScan;
+    private final SessionOpener sessionOpener;
 
+    // 최근에 반납한 연결부터 사용
+    private final LinkedBlockingDeque<ClamdSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+
+    @Autowired
     public ClamAVScanner(ClamAVConfig clamAVConfig) {
+        this(clamAVConfig, ClamdSession::open);
+    }
+
+    ClamAVScanner(ClamAVConfig clamAVConfig, SessionOpener sessionOpener) {
         host = clamAVConfig.getHost();
         port = clamAVConfig.getPort();
+        chunkSize = clamAVConfig.getChunkSize();
+        connectTimeout = clamAVConfig.getConnectTimeout();
+        scanTimeout = clamAVConfig.getScanTimeout();
+        sessionIdleTimeoutNanos = Duration.ofMillis(clamAVConfig.getSessionIdleTimeout()).toNanos();
+        streamScan = clamAVConfig.isStreamScan();
+        this.sessionOpener = sessionOpener;
+
+        permits = new Semaphore(clamAVConfig.getPoolSize(), true);
     }
 
-    public boolean scanFile(String filePath) throws Exception {
-        try (Socket socket = new Socket(host, port);
-             OutputStream out = socket.getOutputStream();
-             FileInputStream fis = new FileInputStream(filePath)) {
+    /**
+     * @return 악성 코드가 발견되지 않으면 true
+     */
+    public boolean scanFile(String filePath) throws IOException {
+        acquirePermit();
+        try {
+            ClamdSession session = borrowSession();
+            try {
+                return scanFile(session, filePath);
+            } catch (IOException e) {
+                session.close();
+                if (!session.isReused()) {
+                    throw e;
+                }
+
+                // 재사용한 연결은 clamd가 먼저 닫았을 수 있으므로 새 연결로 한 번 더 시도
+                log.debug("Reused ClamAV session failed, retrying with a new session: {}", e.getMessage());
+                ClamdSession newSession = openSession();
+                try {
+                    return scanFile(newSession, filePath);
+                } catch (IOException retryException) {
+                    newSession.close();
+                    throw retryException;
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
 
-            out.write("zINSTREAM\0".getBytes());
+    private boolean scanFile(ClamdSession session, String filePath) throws IOException {
+        String reply;
+        try (InputStream in = Files.newInputStream(Paths.get(filePath))) {
+            session.beginInstream();
 
-            byte[] buffer = new byte[2048];
+            byte[] buffer = new byte[chunkSize];
             int read;
-            while ((read = fis.read(buffer)) >= 0) {
-                byte[] size = {
-                        (byte) ((read >> 24) & 0xff),
-                        (byte) ((read >> 16) & 0xff),
-                        (byte) ((read >> 8) & 0xff),
-                        (byte) (read & 0xff)
-                };
-                out.write(size);
-                out.write(buffer, 0, read);
+            while ((read = in.readNBytes(buffer, 0, chunkSize)) > 0) {
+                session.writeChunk(buffer, 0, read);
+            }
+
+            reply = session.finishInstream();
+        }
+        log.debug("ClamAV reply for {}: {}", filePath, reply);
+
+        boolean clean = isClean(reply);
+        releaseSession(session);
+        return clean;
+    }
+
+    /**
+     * 다운로드와 동시에 검사하기 위한 INSTREAM 요청을 시작
+     * <p>
+     * 다운로드하는 동안 연결을 잡고 있으므로, 바로 쓸 수 있는 연결이 없으면 기다리지 않고 아무것도 보내지 않는 검사를 반환한다.
+     * <br>
+     * 이 경우(또는 clamav.stream-scan=false) finish가 빈 값을 반환하므로 저장된 파일로 다시 검사해야 한다.
+     */
+    public ClamAVStreamScan startStreamScan() {
+        if (!streamScan || !permits.tryAcquire()) {
+            return ClamAVStreamScan.unavailable(this);
+        }
+
+        ClamdSession session = null;
+        try {
+            session = borrowSession();
+            session.beginInstream();
+            return new ClamAVStreamScan(this, session, chunkSize);
+        } catch (IOException e) {
+            log.warn("Failed to start ClamAV stream scan: {}", e.getMessage());
+            if (session != null) {
+                session.close();
             }
+            permits.release();
+            return ClamAVStreamScan.unavailable(this);
+        }
+    }
 
-            out.write(new byte[]{0, 0, 0, 0});
-            out.flush();
+    void completeStreamScan(ClamdSession session, boolean reusable) {
+        if (reusable) {
+            releaseSession(session);
+        } else {
+            session.close();
+        }
+        permits.release();
+    }
+
+    // 예: stream: OK, stream: Eicar-Signature FOUND, INSTREAM size limit exceeded. ERROR
+    static boolean isClean(String reply) throws IOException {
+        if (reply.endsWith(" FOUND")) {
+            return false;
+        }
+        if (reply.endsWith(" OK")) {
+            return true;
+        }
+        throw new IOException("ClamAV scan error: " + reply);
+    }
+
+    private void acquirePermit() throws IOException {
+        try {
+            if (!permits.tryAcquire(scanTimeout, TimeUnit.MILLISECONDS)) {
+                throw new IOException("No ClamAV session available within " + scanTimeout + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for ClamAV session", e);
+        }
+    }
+
+    private ClamdSession borrowSession() throws IOException {
+        ClamdSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            if (session.getIdleNanos() < sessionIdleTimeoutNanos) {
+                return session;
+            }
+            session.close();
+        }
+        return openSession();
+    }
+
+    private ClamdSession openSession() throws IOException {
+        log.debug("Opening ClamAV session to {}:{}", host, port);
+        return sessionOpener.open(host, port, connectTimeout, scanTimeout, chunkSize);
+    }
+
+    private void releaseSession(ClamdSession session) {
+        session.markReleased();
+        idleSessions.offerFirst(session);
+    }
+
+    @FunctionalInterface
+    interface SessionOpener {
+
+        ClamdSession open(String host, int port, int connectTimeout, int scanTimeout, int chunkSize) throws IOException;
+    }
 
-            byte[] response = socket.getInputStream().readAllBytes();
-            String result = new String(response);
-            return result.contains("OK");
+    @PreDestroy
+    public void closeSessions() {
+        ClamdSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            session.close();
         }
     }
 }
@@ -0,0 +1,109 @@
+package com.posty.fileapi.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * 다운로드하는 내용을 그대로 clamd INSTREAM으로 보내는 스트림
+ * <p>
+ * 받은 내용은 chunkSize만큼 모아서 보내며, 다운로드가 끝나면 finish로 검사 결과를 받는다.
+ * <br>
+ * clamd 연결에 문제가 생겨도 다운로드는 중단하지 않고 보내기만 멈추며, 이때 finish는 빈 결과를 반환한다. (저장된 파일로 다시 검사)
+ */
+@Slf4j
+public class ClamAVStreamScan extends OutputStream {
+
+    private final ClamAVScanner clamAVScanner;
+    private final byte[] chunk;
+
+    private ClamdSession session;
+    private int position;
+    private Boolean clean;
+
+    ClamAVStreamScan(ClamAVScanner clamAVScanner, ClamdSession session, int chunkSize) {
+        this.clamAVScanner = clamAVScanner;
+        this.session = session;
+        chunk = session != null ? new byte[chunkSize] : new byte[0];
+    }
+
+    // 연결을 얻지 못했을 때 사용하는, 아무것도 보내지 않는 검사
+    static ClamAVStreamScan unavailable(ClamAVScanner clamAVScanner) {
+        return new ClamAVStreamScan(clamAVScanner, null, 0);
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        while (session != null && length > 0) {
+            int copied = Math.min(length, chunk.length - position);
+            System.arraycopy(buffer, offset, chunk, position, copied);
+            position += copied;
+            offset += copied;
+            length -= copied;
+
+            if (position == chunk.length) {
+                sendChunk();
+            }
+        }
+    }
+
+    private void sendChunk() {
+        try {
+            session.writeChunk(chunk, 0, position);
+            position = 0;
+        } catch (IOException e) {
+            log.warn("ClamAV stream scan failed, stored file will be scanned instead: {}", e.getMessage());
+            abort();
+        }
+    }
+
+    /**
+     * 남은 내용을 보내고 검사 결과를 반환
+     * @return 악성 코드가 발견되지 않으면 true, 동시 검사를 하지 못했으면 빈 값
+     */
+    public Optional<Boolean> finish() {
+        if (clean != null || session == null) {
+            return Optional.ofNullable(clean);
+        }
+
+        if (position > 0) {
+            sendChunk();
+            if (session == null) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            String reply = session.finishInstream();
+            log.debug("ClamAV stream scan reply: {}", reply);
+            clean = ClamAVScanner.isClean(reply);
+
+            clamAVScanner.completeStreamScan(session, true);
+            session = null;
+        } catch (IOException e) {
+            log.warn("ClamAV stream scan failed, stored file will be scanned instead: {}", e.getMessage());
+            abort();
+        }
+        return Optional.ofNullable(clean);
+    }
+
+    private void abort() {
+        clamAVScanner.completeStreamScan(session, false);
+        session = null;
+    }
+
+    // 끝나지 않은 검사의 연결은 응답을 기다리는 중일 수 있으므로 반납하지 않고 닫음
+    @Override
+    public void close() {
+        if (session != null) {
+            abort();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.posty.fileapi.infrastructure;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * clamd IDSESSION 연결 하나
+ * <p>
+ * 한 연결로 INSTREAM 요청을 여러 번 보낼 수 있으며, 응답은 "요청 번호: stream: 결과" 형식으로 요청 순서대로 돌아온다.
+ * <br>
+ * 한 번에 한 스레드만 사용해야 한다. (ClamAVScanner의 풀에서 빌려 사용)
+ */
+class ClamdSession implements Closeable {
+
+    private static final byte[] IDSESSION = "zIDSESSION\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INSTREAM = "zINSTREAM\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END = "zEND\0".getBytes(StandardCharsets.US_ASCII);
+
+    private final Socket socket;
+    private final DataOutputStream out;
+    private final InputStream in;
+
+    private boolean reused;
+    private long lastUsedNanos;
+
+    private ClamdSession(Socket socket, int chunkSize) throws IOException {
+        this.socket = socket;
+        // 청크 길이(4 byte)와 청크 본문이 한 번의 write로 나가도록 버퍼 크기를 잡음
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), chunkSize + 4));
+        in = new BufferedInputStream(socket.getInputStream());
+        lastUsedNanos = System.nanoTime();
+    }
+
+    static ClamdSession open(String host, int port, int connectTimeout, int scanTimeout, int chunkSize) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), connectTimeout);
+            socket.setSoTimeout(scanTimeout);
+            socket.setTcpNoDelay(true);
+
+            ClamdSession session = new ClamdSession(socket, chunkSize);
+            session.out.write(IDSESSION);
+            session.out.flush();
+            return session;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    void beginInstream() throws IOException {
+        out.write(INSTREAM);
+    }
+
+    void writeChunk(byte[] buffer, int offset, int length) throws IOException {
+        // 길이 0 청크는 스트림 종료를 뜻하므로 보내지 않음
+        if (length == 0) {
+            return;
+        }
+        out.writeInt(length);
+        out.write(buffer, offset, length);
+    }
+
+    /**
+     * 스트림 종료 청크를 보내고 clamd의 응답을 반환
+     * @return 요청 번호를 뗀 응답 예: stream: OK, stream: Eicar-Signature FOUND
+     */
+    String finishInstream() throws IOException {
+        out.writeInt(0);
+        out.flush();
+        return stripRequestId(readReply());
+    }
+
+    // 응답은 NUL 문자로 끝남
+    private String readReply() throws IOException {
+        ByteArrayOutputStream reply = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = in.read()) > 0) {
+            reply.write(b);
+        }
+        if (b == -1) {
+            throw new EOFException("clamd closed the session");
+        }
+        return reply.toString(StandardCharsets.US_ASCII);
+    }
+
+    private String stripRequestId(String reply) {
+        int separatorIndex = reply.indexOf(": ");
+        return separatorIndex != -1 ? reply.substring(separatorIndex + 2) : reply;
+    }
+
+    boolean isReused() {
+        return reused;
+    }
+
+    void markReleased() {
+        reused = true;
+        lastUsedNanos = System.nanoTime();
+    }
+
+    long getIdleNanos() {
+        return System.nanoTime() - lastUsedNanos;
+    }
+
+    @Override
+    public void close() {
+        try {
+            out.write(END);
+            out.flush();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결이면 종료 요청 없이 닫음
+        }
+
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.posty.fileapi.infrastructure;
+
+/**
+ * @param size 저장한 파일 크기(byte)
+ * @param sha256 저장한 내용의 SHA-256 (소문자 hex)
+ */
+public record DownloadResult(long size, String sha256) {}
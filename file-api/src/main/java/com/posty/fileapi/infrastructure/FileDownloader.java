@@ -1,30 +1,54 @@
 package com.posty.fileapi.infrastructure;
 
+import com.posty.fileapi.error.InvalidFileException;
 import com.posty.fileapi.properties.DownloadConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 
 @Slf4j
 @Component
 public class FileDownloader {
 
+    private static final int BUFFER_SIZE = 8192;
+
     private final int connectTimeout;
     private final int readTimeout;
+    private final long totalTimeout;
 
     public FileDownloader(DownloadConfig downloadConfig) {
         connectTimeout = downloadConfig.getConnectTimeout();
         readTimeout = downloadConfig.getReadTimeout();
+        totalTimeout = downloadConfig.getTotalTimeout();
     }
 
-    public void download(URL downloadUrl, Path targetPath) throws IOException {
+    /**
+     * 원본 URL에 연결하여 응답 본문 스트림을 반환
+     * <p>
+     * 반환된 스트림은 mark/reset을 지원하므로 앞부분을 읽어 MIME 타입을 판별한 뒤 처음부터 다시 저장할 수 있다.
+     * <br>
+     * Content-Length가 maxSize(byte)보다 크면 본문을 받지 않고 바로 중단하며,
+     * <br>
+     * 본문을 읽는 동안에도 받은 크기와 전체 전송 시간(totalTimeout)을 확인하여 넘는 즉시 중단한다.
+     * <br>
+     * 스트림을 닫으면 연결도 함께 종료된다.
+     */
+    public InputStream openStream(URL downloadUrl, long maxSize) throws IOException {
+        // 전체 전송 시간은 연결 시점부터 계산
+        long deadlineNanos = System.nanoTime() + Duration.ofMillis(totalTimeout).toNanos();
+
         HttpURLConnection connection = (HttpURLConnection) downloadUrl.openConnection();
         connection.setRequestMethod("GET");
         connection.setConnectTimeout(connectTimeout);
@@ -32,14 +56,60 @@ public class FileDownloader {
 
         int responseCode = connection.getResponseCode();
         if (responseCode != HttpURLConnection.HTTP_OK) {
+            connection.disconnect();
             throw new IOException("File download failed with response code=" + responseCode);
         }
 
-        try (InputStream inputStream = connection.getInputStream()) {
-            long size = Files.copy(inputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
-            log.debug("Downloaded file to {} with size: {}", targetPath, size);
-        } finally {
+        long contentLength = connection.getContentLengthLong();
+        if (contentLength > maxSize) {
             connection.disconnect();
+            log.debug("Content-Length of {} exceeds max size: {}", downloadUrl, contentLength);
+            throw new InvalidFileException("Invalid file size!");
+        }
+
+        InputStream boundedStream = new BoundedDownloadStream(connection.getInputStream(), maxSize, deadlineNanos);
+        return new BufferedInputStream(boundedStream, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    connection.disconnect();
+                }
+            }
+        };
+    }
+
+    /**
+     * 스트림을 파일로 저장하면서 같은 내용을 tee에도 쓰고 SHA-256을 계산 (tee는 닫지 않음)
+     * <p>
+     * 크기와 시간 제한은 openStream이 반환한 스트림에서 확인한다.
+     */
+    public DownloadResult download(InputStream inputStream, Path targetPath, OutputStream tee) throws IOException {
+        MessageDigest digest = sha256Digest();
+        long size = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (OutputStream outputStream = Files.newOutputStream(targetPath)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+                tee.write(buffer, 0, read);
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+        }
+
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        log.debug("Downloaded file to {} with size: {}, sha256: {}", targetPath, size, sha256);
+        return new DownloadResult(size, sha256);
+    }
+
+    private MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
         }
     }
 }
@@ -0,0 +1,160 @@
+package com.posty.fileapi.infrastructure;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 같은 내용의 파일을 여러 미디어가 공유할 때 참조를 관리
+ * <p>
+ * 참조는 호출한 쪽이 정한 ID(미디어 ID)로 저장 파일 옆의 숨김 파일(.파일명.refs)에 기록하므로, 같은 ID로 다시 추가하거나 해제해도 결과가 같다.
+ * <br>
+ * 기록이 없는 파일은 ID를 모르는 참조가 하나 있는 것으로 보며, 처음 보는 ID를 해제하면 이 참조를 대신 해제한다.
+ * <br>
+ * 참조를 읽고 바꾸는 동안에는 lockFor로 얻은 잠금을 잡고 있어야 한다. (인스턴스 하나 기준)
+ */
+@Component
+public class FileReferenceIndex {
+
+    public static final String REFERENCE_ID_PATTERN = "[A-Za-z0-9_-]{1,64}";
+
+    private static final Pattern REFERENCE_ID = Pattern.compile(REFERENCE_ID_PATTERN);
+
+    // 기록 한 줄: +ID(참조 중), -ID(해제됨, 다시 온 해제 요청을 무시하기 위해 파일이 지워질 때까지 보관), 숫자(ID 없는 참조 수)
+    private static final char ACTIVE = '+';
+    private static final char RELEASED = '-';
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+    public FileReferenceIndex() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(String fileName) {
+        return locks[Math.floorMod(fileName.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 새로 저장한 파일의 참조를 referenceId 하나로 기록 (같은 이름으로 남아 있던 기록은 버림)
+    public void create(Path filePath, String referenceId) throws IOException {
+        References references = new References(0);
+        references.active.add(validate(referenceId));
+        write(filePath, references);
+    }
+
+    /**
+     * @return 새로 추가되었으면 true (이미 참조 중인 ID면 false)
+     */
+    public boolean add(Path filePath, String referenceId) throws IOException {
+        References references = read(filePath);
+        if (!references.active.add(validate(referenceId))) {
+            return false;
+        }
+
+        references.released.remove(referenceId);
+        write(filePath, references);
+        return true;
+    }
+
+    /**
+     * @return 남은 참조가 없으면 true (파일을 삭제해도 됨)
+     */
+    public boolean release(Path filePath, String referenceId) throws IOException {
+        References references = read(filePath);
+        validate(referenceId);
+
+        if (references.active.remove(referenceId)) {
+            references.released.add(referenceId);
+            write(filePath, references);
+        } else if (!references.released.contains(referenceId) && references.anonymous > 0) {
+            references.anonymous--;
+            references.released.add(referenceId);
+            write(filePath, references);
+        }
+
+        return references.isEmpty();
+    }
+
+    public void remove(Path filePath) throws IOException {
+        Files.deleteIfExists(referencePath(filePath));
+    }
+
+    public static Path referencePath(Path filePath) {
+        return filePath.resolveSibling("." + filePath.getFileName() + ".refs");
+    }
+
+    private String validate(String referenceId) {
+        if (referenceId == null || !REFERENCE_ID.matcher(referenceId).matches()) {
+            throw new IllegalArgumentException("Invalid reference ID: " + referenceId);
+        }
+        return referenceId;
+    }
+
+    private References read(Path filePath) throws IOException {
+        Path referencePath = referencePath(filePath);
+        if (!Files.exists(referencePath)) {
+            return new References(1);
+        }
+
+        References references = new References(0);
+        for (String line : Files.readAllLines(referencePath)) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            char type = line.charAt(0);
+            if (type == ACTIVE) {
+                references.active.add(line.substring(1));
+            } else if (type == RELEASED) {
+                references.released.add(line.substring(1));
+            } else {
+                references.anonymous += Long.parseLong(line);
+            }
+        }
+        return references;
+    }
+
+    // 기록 중에 멈춰도 이전 값이 남도록 임시 파일에 쓴 뒤 이름을 바꿈
+    private void write(Path filePath, References references) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (references.anonymous > 0) {
+            lines.add(Long.toString(references.anonymous));
+        }
+        references.active.forEach(referenceId -> lines.add(ACTIVE + referenceId));
+        references.released.forEach(referenceId -> lines.add(RELEASED + referenceId));
+
+        Path referencePath = referencePath(filePath);
+        Path tempPath = referencePath.resolveSibling(referencePath.getFileName() + ".tmp");
+        Files.write(tempPath, lines);
+        Files.move(tempPath, referencePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static class References {
+
+        private final Set<String> active = new LinkedHashSet<>();
+        private final Set<String> released = new LinkedHashSet<>();
+        private long anonymous;
+
+        References(long anonymous) {
+            this.anonymous = anonymous;
+        }
+
+        boolean isEmpty() {
+            return active.isEmpty() && anonymous == 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.posty.fileapi.infrastructure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 저장된 파일의 일부(또는 전체)를 응답으로 보냄
+ * <p>
+ * Tomcat이 sendfile을 지원하면 응답 본문을 직접 쓰지 않고 컨테이너에 파일 위치만 넘겨 커널에서 바로 소켓으로 보내게 한다.
+ * <br>
+ * 지원하지 않으면(테스트 등) FileChannel.transferTo로 응답 스트림에 씀
+ */
+@Component
+public class FileSender {
+
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 그냥 씀 (Tomcat DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    /**
+     * @return 컨테이너가 sendfile로 보내기로 했으면 true (응답 본문을 쓰면 안 됨)
+     */
+    public boolean sendfile(HttpServletRequest request, Path path, long start, long length) {
+        if (length < SENDFILE_MIN_SIZE || !Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            return false;
+        }
+
+        request.setAttribute(SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START_ATTR, start);
+        request.setAttribute(SENDFILE_END_ATTR, start + length);
+        return true;
+    }
+
+    public StreamingResponseBody stream(Path path, long start, long length) {
+        return outputStream -> {
+            try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                transfer(fileChannel, target, start, length);
+            }
+        };
+    }
+
+    // transferTo는 요청한 길이보다 적게 보낼 수 있으므로 다 보낼 때까지 반복
+    public void transfer(FileChannel fileChannel, WritableByteChannel target, long start, long length) throws IOException {
+        long position = start;
+        long remaining = length;
+        while (remaining > 0) {
+            long transferred = fileChannel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+}
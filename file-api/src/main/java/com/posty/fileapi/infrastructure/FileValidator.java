@@ -10,7 +10,7 @@ import org.apache.tika.mime.MimeTypes;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -21,6 +21,7 @@ public class FileValidator {
 
     private final ClamAVScanner clamAVScanner;
 
+    // byte 단위 (설정값은 MB)
     private final long maxSize;
 
     private final Tika tika;
@@ -28,7 +29,7 @@ public class FileValidator {
     public FileValidator(ClamAVScanner clamAVScanner, ValidationConfig validationConfig) {
         this.clamAVScanner = clamAVScanner;
 
-        maxSize = validationConfig.getMaxSize();
+        maxSize = validationConfig.getMaxSize() * 1024 * 1024;
 
         tika = new Tika();
     }
@@ -42,15 +43,23 @@ public class FileValidator {
         }
     }
 
-    public Optional<String> getDotExtensionIfValidMimeType(URL url, MimeMediaType expected) {
-        String detectedType;
+    /**
+     * 스트림의 앞부분과 파일명으로 MIME 타입을 판별
+     * <p>
+     * mark/reset을 지원하는 스트림이면 판별 후 처음 위치로 되돌리므로, 같은 스트림을 이어서 저장할 수 있다.
+     */
+    public String detectContentType(InputStream inputStream, String fileName) {
         try {
-            detectedType = tika.detect(url);
+            String detectedType = tika.detect(inputStream, fileName);
+            log.debug("Detected type is {}", detectedType);
+            return detectedType;
         } catch (IOException e) {
-            log.error("Failed to read {} for MIME detection", url.toString(), e);
+            log.error("Failed to read {} for MIME detection", fileName, e);
             throw new FileIOException("Failed to detect mime type");
         }
-        log.debug("Detected type is {}", detectedType);
+    }
+
+    public Optional<String> getDotExtensionIfValidMimeType(String detectedType, MimeMediaType expected) {
 
         if (!expected.matches(detectedType)) {
             return Optional.empty();
@@ -78,7 +87,24 @@ public class FileValidator {
             throw new FileIOException("Failed to read file size");
         }
 
-        return size > 0 || size < maxSize;
+        return size > 0 && size <= maxSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public ClamAVStreamScan startMalwareScan() {
+        return clamAVScanner.startStreamScan();
+    }
+
+    // 다운로드와 동시에 검사한 결과가 없으면 저장된 파일로 검사
+    public boolean isMaliciousFile(Path filePath, ClamAVStreamScan streamScan) {
+        Optional<Boolean> clean = streamScan.finish();
+        if (clean.isPresent()) {
+            return !clean.get();
+        }
+        return isMaliciousFile(filePath);
     }
 
     public boolean isMaliciousFile(Path filePath) {
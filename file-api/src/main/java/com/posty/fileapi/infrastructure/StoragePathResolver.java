@@ -0,0 +1,74 @@
+package com.posty.fileapi.infrastructure;
+
+import com.posty.fileapi.error.StoredFileNotFoundException;
+import com.posty.fileapi.properties.DirConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 저장 파일의 위치를 결정
+ * <p>
+ * 한 디렉토리에 파일이 몰리지 않도록 파일명의 SHA-256 해시 앞 4자리로 두 단계 디렉토리를 만든다. 예: base/3f/a2/파일명
+ * <br>
+ * 이전처럼 base 바로 아래에 저장된 파일은 resolveLegacy로 찾는다. (StorageLayoutMigration으로 옮기기 전까지)
+ */
+@Component
+public class StoragePathResolver {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path basePath;
+
+    @Autowired
+    public StoragePathResolver(DirConfig dirConfig) {
+        this(Paths.get(dirConfig.getBase()));
+    }
+
+    public StoragePathResolver(Path basePath) {
+        this.basePath = basePath;
+    }
+
+    public Path getBasePath() {
+        return basePath;
+    }
+
+    public Path resolve(String fileName) {
+        validateFileName(fileName);
+
+        String hash = HEX.formatHex(sha256(fileName), 0, 2);
+        return basePath
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(fileName);
+    }
+
+    public Path resolveLegacy(String fileName) {
+        validateFileName(fileName);
+        return basePath.resolve(fileName);
+    }
+
+    // 저장 디렉토리 밖이나 저장 중인 숨김 파일을 가리키는 이름은 없는 파일로 처리
+    private void validateFileName(String fileName) {
+        if (fileName.isEmpty()
+                || fileName.startsWith(".")
+                || fileName.indexOf('/') != -1
+                || fileName.indexOf('\\') != -1) {
+            throw new StoredFileNotFoundException(fileName);
+        }
+    }
+
+    private byte[] sha256(String fileName) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(fileName.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.posty.fileapi.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.posty.fileapi.properties.CacheConfig;
+import com.posty.fileapi.service.StoredFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 자주 조회되는 저장 파일을 위한 캐시
+ * <p>
+ * 메타데이터(경로, 크기, 수정 시각, 타입)는 파일명으로 캐싱하여 조회할 때마다 파일 시스템에 묻지 않는다.
+ * <br>
+ * contentMaxFileSize 이하의 작은 파일은 내용까지 힙 밖(direct buffer)에 올려두며, 전체 크기가 contentMaxTotalSize를 넘으면 오래 안 쓴 것부터 제거
+ */
+@Slf4j
+@Component
+public class StoredFileCache {
+
+    private final Cache<String, StoredFile> metadataCache;
+    private final Cache<String, ByteBuffer> contentCache;
+
+    private final boolean contentEnabled;
+    private final int contentMaxFileSize;
+
+    public StoredFileCache(CacheConfig cacheConfig) {
+        metadataCache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMetadataMaxSize())
+                .expireAfterWrite(Duration.ofMillis(cacheConfig.getMetadataTtl()))
+                .build();
+
+        contentCache = Caffeine.newBuilder()
+                .maximumWeight(cacheConfig.getContentMaxTotalSize())
+                .weigher((String fileName, ByteBuffer content) -> content.capacity())
+                .build();
+
+        contentEnabled = cacheConfig.isContentEnabled();
+        contentMaxFileSize = cacheConfig.getContentMaxFileSize();
+    }
+
+    // loader에서 발생한 예외(파일 없음 등)는 그대로 전달되며 캐싱되지 않음
+    public StoredFile getMetadata(String fileName, Function<String, StoredFile> loader) {
+        return metadataCache.get(fileName, loader);
+    }
+
+    /**
+     * 작은 파일의 내용을 반환 (처음 요청 시 파일에서 읽어 캐싱)
+     * @return 읽기 전용 버퍼, 캐싱 대상이 아니거나 읽지 못하면 null
+     */
+    public ByteBuffer getContent(StoredFile storedFile) {
+        if (!contentEnabled || storedFile.size() > contentMaxFileSize) {
+            return null;
+        }
+
+        try {
+            ByteBuffer content = contentCache.get(storedFile.fileName(), fileName -> readContent(storedFile));
+            return content.asReadOnlyBuffer();
+        } catch (UncheckedIOException e) {
+            log.warn("Failed to cache content of {}", storedFile.fileName(), e.getCause());
+            return null;
+        }
+    }
+
+    private ByteBuffer readContent(StoredFile storedFile) {
+        ByteBuffer content = ByteBuffer.allocateDirect((int) storedFile.size());
+        try (FileChannel fileChannel = FileChannel.open(storedFile.path(), StandardOpenOption.READ)) {
+            while (content.hasRemaining()) {
+                if (fileChannel.read(content) == -1) {
+                    throw new IOException("File is shorter than expected: " + storedFile.fileName());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return content.flip();
+    }
+
+    public void invalidate(String fileName) {
+        metadataCache.invalidate(fileName);
+        contentCache.invalidate(fileName);
+    }
+}
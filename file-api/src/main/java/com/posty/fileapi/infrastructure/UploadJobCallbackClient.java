@@ -0,0 +1,163 @@
+package com.posty.fileapi.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.fileapi.dto.UploadJobResponse;
+import com.posty.fileapi.properties.UploadJobConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 업로드 작업이 끝나면 요청 시 받은 callbackUrl로 결과를 보냄
+ * <p>
+ * callbackUrl은 설정된 주소(callbackAllowedUrls)와 scheme, host, port가 같고 경로가 그 아래인 경우만 허용한다.
+ * <br>
+ * 받는 쪽은 API 토큰 대신 callbackSecret으로 만든 서명(HMAC-SHA256, "타임스탬프.본문")으로 파일 API의 요청인지 확인함
+ * <br>
+ * 실패해도 다시 보내지 않으며, 요청한 쪽은 상태 조회로 결과를 확인할 수 있음
+ */
+@Slf4j
+@Component
+public class UploadJobCallbackClient {
+
+    public static final String TIMESTAMP_HEADER = "X-Callback-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-Callback-Signature";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final List<URI> allowedUrls;
+    private final SecretKeySpec secretKey;
+
+    @Autowired
+    public UploadJobCallbackClient(UploadJobConfig uploadJobConfig, ObjectMapper objectMapper) {
+        this(uploadJobConfig, objectMapper, Clock.systemUTC());
+    }
+
+    UploadJobCallbackClient(UploadJobConfig uploadJobConfig, ObjectMapper objectMapper, Clock clock) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(uploadJobConfig.getCallbackTimeout());
+        requestFactory.setReadTimeout(uploadJobConfig.getCallbackTimeout());
+
+        restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+
+        allowedUrls = uploadJobConfig.getCallbackAllowedUrls().stream()
+                .map(UploadJobCallbackClient::parseAllowedUrl)
+                .toList();
+
+        String secret = uploadJobConfig.getCallbackSecret();
+        if (secret == null || secret.isBlank()) {
+            if (!allowedUrls.isEmpty()) {
+                throw new IllegalStateException("upload-job.callback-secret is required when callback URLs are allowed");
+            }
+            secretKey = null;
+        } else {
+            secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM);
+        }
+    }
+
+    public boolean isAllowed(String callbackUrl) {
+        URI uri;
+        try {
+            uri = new URI(callbackUrl).normalize();
+        } catch (URISyntaxException e) {
+            return false;
+        }
+
+        // 인증 정보가 포함되거나 정규화 후에도 상위 경로 이동이 남은 주소는 허용하지 않음
+        String path = uri.getPath();
+        if (uri.getScheme() == null || uri.getHost() == null || uri.getRawUserInfo() != null
+                || path == null || path.contains("..")) {
+            return false;
+        }
+
+        return allowedUrls.stream().anyMatch(allowed ->
+                allowed.getScheme().equalsIgnoreCase(uri.getScheme())
+                        && allowed.getHost().equalsIgnoreCase(uri.getHost())
+                        && portOf(allowed) == portOf(uri)
+                        && isUnderPath(path, allowed.getPath())
+        );
+    }
+
+    public void notify(String callbackUrl, UploadJobResponse result) {
+        if (!isAllowed(callbackUrl)) {
+            log.warn("Upload job {} result has not been sent to disallowed URL {}", result.jobId(), callbackUrl);
+            return;
+        }
+
+        try {
+            String body = objectMapper.writeValueAsString(result);
+            String timestamp = String.valueOf(clock.instant().getEpochSecond());
+
+            restClient.post()
+                    .uri(callbackUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(TIMESTAMP_HEADER, timestamp)
+                    .header(SIGNATURE_HEADER, SIGNATURE_PREFIX + sign(timestamp + "." + body))
+                    .body(body)
+                    .retrieve()
+                    .toBodilessEntity();
+            log.debug("Upload job {} result has been sent to {}", result.jobId(), callbackUrl);
+        } catch (JsonProcessingException | RestClientException e) {
+            log.warn("Failed to send upload job {} result to {}", result.jobId(), callbackUrl, e);
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(secretKey);
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign upload job callback", e);
+        }
+    }
+
+    private static URI parseAllowedUrl(String allowedUrl) {
+        URI uri = URI.create(allowedUrl).normalize();
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalStateException("Invalid upload-job.callback-allowed-urls entry: " + allowedUrl);
+        }
+        return uri;
+    }
+
+    private static int portOf(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static boolean isUnderPath(String path, String allowedPath) {
+        if (allowedPath == null || allowedPath.isEmpty() || allowedPath.equals("/")) {
+            return true;
+        }
+        if (allowedPath.endsWith("/")) {
+            return path.startsWith(allowedPath);
+        }
+        return path.equals(allowedPath) || path.startsWith(allowedPath + "/");
+    }
+}
@@ -0,0 +1,19 @@
+package com.posty.fileapi.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheConfig {
+
+    private long metadataMaxSize;
+    private long metadataTtl;
+    private boolean contentEnabled;
+    private int contentMaxFileSize;
+    private long contentMaxTotalSize;
+}
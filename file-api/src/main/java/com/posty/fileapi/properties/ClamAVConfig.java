@@ -13,4 +13,10 @@ public class ClamAVConfig {
 
     private String host;
     private int port;
+    private int poolSize;
+    private int chunkSize;
+    private int connectTimeout;
+    private int scanTimeout;
+    private int sessionIdleTimeout;
+    private boolean streamScan;
 }
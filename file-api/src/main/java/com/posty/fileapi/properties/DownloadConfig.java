@@ -13,4 +13,5 @@ public class DownloadConfig {
 
     private int connectTimeout;
     private int readTimeout;
+    private long totalTimeout;
 }
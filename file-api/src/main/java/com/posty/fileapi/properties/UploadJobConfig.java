@@ -0,0 +1,23 @@
+package com.posty.fileapi.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "upload-job")
+public class UploadJobConfig {
+
+    private int poolSize;
+    private int queueCapacity;
+    private long retention;
+    private int callbackTimeout;
+    private List<String> callbackAllowedUrls = new ArrayList<>(); // 비어 있으면 콜백을 받지 않음
+    private String callbackSecret; // 콜백 본문 서명 키 (API 토큰과 다른 값)
+}
@@ -2,6 +2,10 @@ package com.posty.fileapi.service;
 
 import com.posty.fileapi.error.InvalidRangeException;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 public record ByteRange(
         long start,
         long end,
@@ -9,24 +13,103 @@ public record ByteRange(
         boolean partial
 ) {
 
-    public static ByteRange parse(String rangeHeader, long totalSize) {
-        if (rangeHeader == null || rangeHeader.isBlank()) {
-            return new ByteRange(0, totalSize - 1, totalSize, false);
+    // 범위가 너무 많은 요청은 여러 조각으로 나눠 보내는 비용이 더 크므로 전체를 보냄
+    public static final int MAX_RANGES = 16;
+
+    public static ByteRange full(long totalSize) {
+        return new ByteRange(0, totalSize - 1, totalSize, false);
+    }
+
+    /**
+     * Range 헤더를 해석
+     * <p>
+     * bytes=0-99, bytes=100-(끝까지), bytes=-500(마지막 500 byte) 형식을 쉼표로 여러 개 받을 수 있으며,
+     * 겹치거나 이어지는 범위는 하나로 합친다.
+     * <br>
+     * 형식이 잘못되었거나 범위가 너무 많으면 헤더가 없는 것처럼 전체를 반환하고, 만족하는 범위가 하나도 없으면 예외를 던진다.
+     * @return 응답할 범위 (전체 응답이면 full 하나)
+     */
+    public static List<ByteRange> parse(String rangeHeader, long totalSize) {
+        if (rangeHeader == null || rangeHeader.isBlank() || !rangeHeader.startsWith("bytes=")) {
+            return List.of(full(totalSize));
+        }
+
+        String[] specs = rangeHeader.substring(6).split(",");
+        if (specs.length > MAX_RANGES) {
+            return List.of(full(totalSize));
+        }
+
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            ByteRange range;
+            try {
+                range = parseSpec(spec.trim(), totalSize);
+            } catch (NumberFormatException e) {
+                return List.of(full(totalSize));
+            }
+
+            if (range != null) {
+                ranges.add(range);
+            }
+        }
+
+        if (ranges.isEmpty()) {
+            throw new InvalidRangeException("Invalid Range values", totalSize);
         }
 
-        if (!rangeHeader.startsWith("bytes=")) {
-            throw new InvalidRangeException("Invalid Range header");
+        return merge(ranges);
+    }
+
+    // 만족할 수 없는 범위(파일 끝 이후 등)면 null
+    private static ByteRange parseSpec(String spec, long totalSize) {
+        int dashIndex = spec.indexOf('-');
+        if (dashIndex == -1) {
+            throw new NumberFormatException("Missing '-' in range: " + spec);
         }
 
-        String[] parts = rangeHeader.substring(6).split("-", 2);
-        long start = parts[0].isBlank() ? 0 : Long.parseLong(parts[0]);
-        long end = parts[1].isBlank() ? totalSize - 1 : Long.parseLong(parts[1]);
+        String first = spec.substring(0, dashIndex).trim();
+        String last = spec.substring(dashIndex + 1).trim();
+
+        if (first.isEmpty()) {
+            long suffixLength = Long.parseLong(last);
+            if (suffixLength <= 0 || totalSize == 0) {
+                return null;
+            }
+            return new ByteRange(Math.max(totalSize - suffixLength, 0), totalSize - 1, totalSize, true);
+        }
 
-        if (start < 0 || end < start || end >= totalSize) {
-            throw new InvalidRangeException("Invalid Range values");
+        long start = Long.parseLong(first);
+        long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+        if (start < 0 || end < start) {
+            throw new NumberFormatException("Invalid range: " + spec);
+        }
+        if (start >= totalSize) {
+            return null;
         }
 
-        return new ByteRange(start, end, totalSize, true);
+        return new ByteRange(start, Math.min(end, totalSize - 1), totalSize, true);
+    }
+
+    private static List<ByteRange> merge(List<ByteRange> ranges) {
+        if (ranges.size() == 1) {
+            return ranges;
+        }
+
+        ranges.sort(Comparator.comparingLong(ByteRange::start));
+
+        List<ByteRange> merged = new ArrayList<>(ranges.size());
+        ByteRange current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            ByteRange next = ranges.get(i);
+            if (next.start() <= current.end() + 1) {
+                current = new ByteRange(current.start(), Math.max(current.end(), next.end()), current.totalSize(), true);
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
     }
 
     public long length() {
@@ -2,29 +2,37 @@ package com.posty.fileapi.service;
 
 import com.posty.fileapi.common.FileNameParts;
 import com.posty.fileapi.common.FileNameUtil;
-import com.posty.fileapi.common.UUIDUtil;
 import com.posty.fileapi.dto.MediaType;
 import com.posty.fileapi.error.FileIOException;
 import com.posty.fileapi.error.InvalidFileException;
 import com.posty.fileapi.error.InvalidURLException;
 import com.posty.fileapi.error.StoredFileNotFoundException;
+import com.posty.fileapi.infrastructure.ClamAVStreamScan;
+import com.posty.fileapi.infrastructure.DownloadResult;
+import com.posty.fileapi.infrastructure.FileReferenceIndex;
 import com.posty.fileapi.infrastructure.MimeMediaType;
 import com.posty.fileapi.properties.DirConfig;
 import com.posty.fileapi.infrastructure.FileDownloader;
 import com.posty.fileapi.infrastructure.FileValidator;
+import com.posty.fileapi.infrastructure.StoragePathResolver;
+import com.posty.fileapi.infrastructure.StoredFileCache;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.locks.Lock;
 
 @Slf4j
 @Service
@@ -32,6 +40,9 @@ public class FileService {
 
     private final FileValidator fileValidator;
     private final FileDownloader fileDownloader;
+    private final StoragePathResolver storagePathResolver;
+    private final FileReferenceIndex fileReferenceIndex;
+    private final StoredFileCache storedFileCache;
 
     private final Path tempPath;
     private final Path basePath;
@@ -39,13 +50,19 @@ public class FileService {
     public FileService(
             FileValidator fileValidator,
             FileDownloader fileDownloader,
+            StoragePathResolver storagePathResolver,
+            FileReferenceIndex fileReferenceIndex,
+            StoredFileCache storedFileCache,
             DirConfig dirConfig
     ) {
         this.fileValidator = fileValidator;
         this.fileDownloader = fileDownloader;
+        this.storagePathResolver = storagePathResolver;
+        this.fileReferenceIndex = fileReferenceIndex;
+        this.storedFileCache = storedFileCache;
 
         tempPath = Paths.get(dirConfig.getTemp());
-        basePath = Paths.get(dirConfig.getBase());
+        basePath = storagePathResolver.getBasePath();
     }
 
     @PostConstruct
@@ -54,20 +71,59 @@ public class FileService {
         Files.createDirectories(basePath);
     }
 
-    public Resource getFileResource(String fileName) {
-        Path filePath = basePath.resolve(fileName);
-        if (!Files.exists(filePath)) {
-            throw new StoredFileNotFoundException(fileName);
+    // 해시 디렉토리에 없으면 아직 옮기지 않은 이전 위치에서 찾음
+    private Path findStoredFile(String fileName) {
+        Path filePath = storagePathResolver.resolve(fileName);
+        if (Files.exists(filePath)) {
+            return filePath;
+        }
+
+        Path legacyPath = storagePathResolver.resolveLegacy(fileName);
+        if (Files.exists(legacyPath)) {
+            return legacyPath;
         }
 
+        throw new StoredFileNotFoundException(fileName);
+    }
+
+    // 저장된 파일은 내용이 바뀌지 않으므로 한 번 읽은 정보는 삭제될 때까지 캐시에서 반환
+    public StoredFile getStoredFile(String fileName) {
+        return storedFileCache.getMetadata(fileName, this::loadStoredFile);
+    }
+
+    // 크기와 수정 시각은 한 번의 속성 조회로 읽음
+    private StoredFile loadStoredFile(String fileName) {
+        Path filePath = findStoredFile(fileName);
+
+        BasicFileAttributes attributes;
         try {
-            return new UrlResource(filePath.toUri());
-        } catch (MalformedURLException e) {
-            throw new FileIOException("Invalid file path");
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new StoredFileNotFoundException(fileName);
+        } catch (IOException e) {
+            log.error("Failed to read attributes of {}", fileName, e);
+            throw new FileIOException("Failed to read file attributes");
         }
+
+        String contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(org.springframework.http.MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+
+        return new StoredFile(
+                fileName,
+                filePath,
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis(),
+                contentType
+        );
     }
 
-    public String storeFile(MediaType mediaType, String originUrl) {
+    /**
+     * 원본을 내려받아 저장하고 referenceId(미디어 ID)의 참조를 기록
+     * <p>
+     * 같은 referenceId로 다시 요청해도(응답을 받지 못해 재시도한 경우 등) 참조는 하나만 남는다.
+     */
+    public String storeFile(MediaType mediaType, String originUrl, String referenceId) {
         URL downloadUrl;
         try {
             downloadUrl = new URL(originUrl);
@@ -76,61 +132,176 @@ public class FileService {
             throw new InvalidURLException();
         }
 
-        String dotExtension;
-        dotExtension = fileValidator.getDotExtensionIfValidMimeType(downloadUrl, MimeMediaType.from(mediaType))
-                .orElseThrow(() -> new InvalidFileException("Invalid MIME type!"));
-
         FileNameParts fileNameParts = FileNameUtil.parseFileNameFromUrl(downloadUrl);
-        String tempFileName = fileNameParts.name() + "-" + System.currentTimeMillis() + dotExtension;
-        Path tempFilePath = tempPath.resolve(tempFileName);
+        String originFileName = fileNameParts.name() + fileNameParts.dotExtension();
 
-        try {
-            fileDownloader.download(downloadUrl, tempFilePath);
+        // 원본은 한 번만 내려받으며, 앞부분으로 MIME 타입을 먼저 확인한 뒤 나머지를 임시 파일로 저장 (크기 초과 시 즉시 중단)
+        try (InputStream inputStream = fileDownloader.openStream(downloadUrl, fileValidator.getMaxSize())) {
+            String detectedType = fileValidator.detectContentType(inputStream, originFileName);
+            String dotExtension = fileValidator.getDotExtensionIfValidMimeType(detectedType, MimeMediaType.from(mediaType))
+                    .orElseThrow(() -> new InvalidFileException("Invalid MIME type!"));
+
+            String tempFileName = fileNameParts.name() + "-" + System.currentTimeMillis() + dotExtension;
+            Path tempFilePath = tempPath.resolve(tempFileName);
+
+            // 저장하는 내용을 ClamAV로도 함께 보내므로, 다운로드가 끝나면 파일을 다시 읽지 않고 검사 결과를 받음
+            try (ClamAVStreamScan malwareScan = fileValidator.startMalwareScan()) {
+                DownloadResult downloadResult = fileDownloader.download(inputStream, tempFilePath, malwareScan);
+                return storeTempFile(tempFilePath, downloadResult.sha256() + dotExtension, referenceId, malwareScan);
+            } finally {
+                deleteTempFile(tempFilePath);
+            }
         } catch (IOException e) {
             log.error("Failed to download file from {}", downloadUrl, e);
             throw new FileIOException("Failed to download file from url");
         }
+    }
 
+    /**
+     * 임시 파일을 내용의 SHA-256으로 만든 이름으로 저장
+     * <p>
+     * 같은 내용의 파일이 이미 있으면 새로 저장하지 않고 참조만 추가하여 기존 파일명을 반환한다.
+     */
+    private String storeTempFile(Path tempFilePath, String fileName, String referenceId, ClamAVStreamScan malwareScan) {
         if (!fileValidator.isValidSize(tempFilePath)) {
             throw new InvalidFileException("Invalid file size!");
         }
 
-        if (fileValidator.isMaliciousFile(tempFilePath)) {
-            throw new InvalidFileException("Malicious file!");
-        }
+        Path targetPath = storagePathResolver.resolve(fileName);
 
-        String fileName = System.currentTimeMillis() + UUIDUtil.getUUIDWithoutDash() + dotExtension;
-        Path targetPath = basePath.resolve(fileName);
+        // 이미 저장된 내용이면 검사를 통과한 파일이므로 결과를 기다리지 않음
+        boolean scanned = false;
+        if (!Files.exists(targetPath)) {
+            checkMalicious(tempFilePath, malwareScan);
+            scanned = true;
+        }
 
+        Lock lock = fileReferenceIndex.lockFor(fileName);
+        lock.lock();
         try {
-            Files.copy(tempFilePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.exists(targetPath)) {
+                fileReferenceIndex.add(targetPath, referenceId);
+                log.info("File {} already exists, referenced by {}", fileName, referenceId);
+                return fileName;
+            }
+
+            // 확인한 뒤 그 사이에 삭제된 경우
+            if (!scanned) {
+                checkMalicious(tempFilePath, malwareScan);
+            }
+
+            Files.createDirectories(targetPath.getParent());
+            promoteTempFile(tempFilePath, targetPath);
+            fileReferenceIndex.create(targetPath, referenceId);
             log.info("File {} has been stored!", fileName);
         } catch (IOException e) {
-            log.error("Failed to store {}!", tempFileName, e);
+            log.error("Failed to store {}!", tempFilePath.getFileName(), e);
             throw new FileIOException("Failed to store file");
+        } finally {
+            lock.unlock();
         }
 
+        return fileName;
+    }
+
+    private void checkMalicious(Path tempFilePath, ClamAVStreamScan malwareScan) {
+        if (fileValidator.isMaliciousFile(tempFilePath, malwareScan)) {
+            throw new InvalidFileException("Malicious file!");
+        }
+    }
+
+    /**
+     * 검사를 마친 임시 파일을 저장 디렉토리로 옮김
+     * <p>
+     * 같은 파일 시스템이면 이름만 바꾸므로 복사 없이 완성된 파일이 한 번에 나타난다.
+     * <br>
+     * 다른 파일 시스템이면 숨김 파일로 복사한 뒤 이름을 바꿔, 복사 중인 파일이 조회되지 않도록 한다.
+     */
+    private void promoteTempFile(Path tempFilePath, Path targetPath) throws IOException {
+        try {
+            Files.move(tempFilePath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException e) {
+            log.debug("Atomic move from {} is not supported, copying instead", tempFilePath);
+        }
+
+        Path hiddenPath = targetPath.resolveSibling("." + targetPath.getFileName() + ".tmp");
+        try {
+            Files.copy(tempFilePath, hiddenPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(hiddenPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(hiddenPath);
+            throw e;
+        }
+    }
+
+    private void deleteTempFile(Path tempFilePath) {
         try {
             Files.deleteIfExists(tempFilePath);
         } catch (IOException e) {
             log.error("Failed to delete temporary file (temporary file: {})", tempFilePath, e);
         }
+    }
 
-        return fileName;
+    // 이미 저장된 파일을 다른 미디어에서도 사용하도록 참조를 추가 (이미 참조 중인 ID면 그대로 둠)
+    public String addReference(String fileName, String referenceId) {
+        Path filePath = findStoredFile(fileName);
+
+        Lock lock = fileReferenceIndex.lockFor(fileName);
+        lock.lock();
+        try {
+            if (!Files.exists(filePath)) {
+                throw new StoredFileNotFoundException(fileName);
+            }
+
+            if (fileReferenceIndex.add(filePath, referenceId)) {
+                log.info("File {} is now referenced by {}", fileName, referenceId);
+            }
+            return fileName;
+        } catch (IOException e) {
+            log.error("Failed to add reference to {}!", fileName, e);
+            throw new FileIOException("Failed to add file reference");
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public void deleteFile(String fileName) {
-        Path filePath = basePath.resolve(fileName);
-        if (!Files.exists(filePath)) {
-            throw new StoredFileNotFoundException(fileName);
+    /**
+     * referenceId의 참조를 해제하고, 남은 참조가 없으면 파일을 삭제
+     * <p>
+     * 이미 해제했거나 파일이 이미 삭제된 경우에도 성공으로 처리하므로 같은 요청을 다시 보내도 된다.
+     */
+    public void releaseReference(String fileName, String referenceId) {
+        Path filePath;
+        try {
+            filePath = findStoredFile(fileName);
+        } catch (StoredFileNotFoundException e) {
+            log.info("File {} has already been deleted", fileName);
+            return;
         }
 
+        Lock lock = fileReferenceIndex.lockFor(fileName);
+        lock.lock();
         try {
+            if (!Files.exists(filePath)) {
+                log.info("File {} has already been deleted", fileName);
+                return;
+            }
+
+            if (!fileReferenceIndex.release(filePath, referenceId)) {
+                log.info("File {} is no longer referenced by {}, but is still in use", fileName, referenceId);
+                return;
+            }
+
             Files.delete(filePath);
+            fileReferenceIndex.remove(filePath);
+            storedFileCache.invalidate(fileName);
             log.info("File {} has been deleted!", fileName);
         } catch (IOException e) {
             log.error("Failed to delete {}!", fileName, e);
             throw new FileIOException("Failed to delete file");
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -0,0 +1,174 @@
+package com.posty.fileapi.service;
+
+import com.posty.fileapi.infrastructure.FileSender;
+import com.posty.fileapi.infrastructure.StoredFileCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Range 요청에 맞춰 저장된 파일의 응답 본문을 만듦
+ * <p>
+ * 범위가 하나면 해당 구간만, 여러 개면 multipart/byteranges 본문으로 보낸다.
+ * <br>
+ * 본문은 파일 전체를 메모리에 올리지 않고 FileChannel(또는 캐싱된 작은 파일의 버퍼)에서 고정 크기 버퍼 단위로 응답 스트림에 씀
+ */
+@Service
+public class FileStreamService {
+
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges";
+    private static final String CRLF = "\r\n";
+
+    private final FileSender fileSender;
+    private final StoredFileCache storedFileCache;
+
+    public FileStreamService(FileSender fileSender, StoredFileCache storedFileCache) {
+        this.fileSender = fileSender;
+        this.storedFileCache = storedFileCache;
+    }
+
+    /**
+     * 응답할 범위를 결정
+     * <p>
+     * If-Range가 현재 파일과 일치하지 않으면 Range를 무시하고 전체를 보냄 (클라이언트가 가진 일부분이 이미 다른 내용이므로)
+     */
+    public List<ByteRange> resolveRanges(StoredFile storedFile, String rangeHeader, String ifRange) {
+        if (rangeHeader == null || !matchesIfRange(storedFile, ifRange)) {
+            return List.of(ByteRange.full(storedFile.size()));
+        }
+        return ByteRange.parse(rangeHeader, storedFile.size());
+    }
+
+    // ETag는 strong 비교만 허용하고, 날짜는 HTTP 날짜가 초 단위이므로 초 단위로 비교
+    private boolean matchesIfRange(StoredFile storedFile, String ifRange) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return value.equals(storedFile.eTag());
+        }
+
+        try {
+            long ifRangeSeconds = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return ifRangeSeconds == storedFile.lastModified() / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 응답 본문을 만듦
+     * <p>
+     * 캐싱된 작은 파일은 메모리에서, 범위가 하나인 큰 파일은 가능하면 sendfile로 보낸다.
+     * @return sendfile로 보내기로 했으면 body가 null (응답 본문을 쓰면 안 됨)
+     */
+    public FileStreamResult open(StoredFile storedFile, List<ByteRange> ranges, HttpServletRequest request) {
+        ByteBuffer cachedContent = storedFileCache.getContent(storedFile);
+
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+
+            StreamingResponseBody body;
+            if (cachedContent != null) {
+                body = outputStream -> writeContent(cachedContent, range, Channels.newChannel(outputStream));
+            } else if (fileSender.sendfile(request, storedFile.path(), range.start(), range.length())) {
+                body = null;
+            } else {
+                body = fileSender.stream(storedFile.path(), range.start(), range.length());
+            }
+
+            return new FileStreamResult(
+                    body,
+                    range.length(),
+                    storedFile.contentType(),
+                    range.partial() ? range.toContentRangeHeader() : null,
+                    range.partial()
+            );
+        }
+
+        // 여러 범위는 구간 사이에 헤더를 써야 하므로 sendfile을 쓸 수 없음
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+
+        // 각 구간 앞에 붙는 헤더를 미리 만들어 두어 Content-Length를 정확히 계산
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] partHeader = (CRLF + "--" + boundary + CRLF
+                    + "Content-Type: " + storedFile.contentType() + CRLF
+                    + "Content-Range: " + range.toContentRangeHeader() + CRLF
+                    + CRLF).getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range.length();
+        }
+
+        byte[] closeDelimiter = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closeDelimiter.length;
+
+        StreamingResponseBody body = outputStream -> writeParts(
+                storedFile, cachedContent, ranges, partHeaders, closeDelimiter, outputStream
+        );
+
+        return new FileStreamResult(
+                body,
+                contentLength,
+                MULTIPART_BYTERANGES + "; boundary=" + boundary,
+                null,
+                true
+        );
+    }
+
+    private void writeParts(
+            StoredFile storedFile,
+            ByteBuffer cachedContent,
+            List<ByteRange> ranges,
+            List<byte[]> partHeaders,
+            byte[] closeDelimiter,
+            OutputStream outputStream
+    ) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+
+        if (cachedContent != null) {
+            for (int i = 0; i < ranges.size(); i++) {
+                outputStream.write(partHeaders.get(i));
+                writeContent(cachedContent, ranges.get(i), target);
+            }
+            outputStream.write(closeDelimiter);
+            return;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(storedFile.path(), StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                outputStream.write(partHeaders.get(i));
+                fileSender.transfer(fileChannel, target, range.start(), range.length());
+            }
+            outputStream.write(closeDelimiter);
+        }
+    }
+
+    // 캐시된 버퍼는 여러 요청이 공유하므로 위치를 바꾸지 않도록 복제본으로 씀
+    private void writeContent(ByteBuffer cachedContent, ByteRange range, WritableByteChannel target) throws IOException {
+        ByteBuffer region = cachedContent.duplicate();
+        region.limit((int) (range.start() + range.length())).position((int) range.start());
+        while (region.hasRemaining()) {
+            target.write(region);
+        }
+    }
+}
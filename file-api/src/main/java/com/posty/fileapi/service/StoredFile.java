@@ -0,0 +1,21 @@
+package com.posty.fileapi.service;
+
+import java.nio.file.Path;
+
+/**
+ * 저장된 파일의 응답에 필요한 정보
+ * @param lastModified epoch millis
+ */
+public record StoredFile(
+        String fileName,
+        Path path,
+        long size,
+        long lastModified,
+        String contentType
+) {
+
+    // 저장된 파일은 내용이 바뀌지 않으므로 파일명만으로 strong ETag를 만듦
+    public String eTag() {
+        return "\"" + fileName + "\"";
+    }
+}
@@ -0,0 +1,124 @@
+package com.posty.fileapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.posty.fileapi.common.UUIDUtil;
+import com.posty.fileapi.dto.UploadJobRequest;
+import com.posty.fileapi.dto.UploadJobResponse;
+import com.posty.fileapi.error.FileIOException;
+import com.posty.fileapi.error.InvalidCallbackURLException;
+import com.posty.fileapi.error.InvalidFileException;
+import com.posty.fileapi.error.InvalidURLException;
+import com.posty.fileapi.error.UploadJobNotFoundException;
+import com.posty.fileapi.error.UploadJobRejectedException;
+import com.posty.fileapi.infrastructure.UploadJobCallbackClient;
+import com.posty.fileapi.properties.ApiConfig;
+import com.posty.fileapi.properties.UploadJobConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+
+/**
+ * 파일 저장을 요청 스레드와 분리하여 실행하는 업로드 작업
+ * <p>
+ * 요청은 작업 ID만 받고 바로 끝나며, 다운로드/검사/저장은 크기가 제한된 전용 스레드 풀에서 실행된다.
+ * <br>
+ * 작업 상태는 마지막 변경 후 retention 동안만 메모리에 보관 (인스턴스마다 따로 관리됨)
+ */
+@Slf4j
+@Service
+public class UploadJobService {
+
+    private final FileService fileService;
+    private final UploadJobCallbackClient callbackClient;
+    private final ThreadPoolTaskExecutor uploadJobExecutor;
+
+    private final Cache<String, UploadJobResponse> jobs;
+    private final String externalUrl;
+
+    public UploadJobService(
+            FileService fileService,
+            UploadJobCallbackClient callbackClient,
+            @Qualifier("uploadJobExecutor") ThreadPoolTaskExecutor uploadJobExecutor,
+            UploadJobConfig uploadJobConfig,
+            ApiConfig apiConfig
+    ) {
+        this.fileService = fileService;
+        this.callbackClient = callbackClient;
+        this.uploadJobExecutor = uploadJobExecutor;
+
+        jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(uploadJobConfig.getRetention()))
+                .build();
+        externalUrl = apiConfig.getExternalUrl();
+    }
+
+    public UploadJobResponse submit(UploadJobRequest request) {
+        if (hasCallback(request) && !callbackClient.isAllowed(request.callbackUrl())) {
+            throw new InvalidCallbackURLException();
+        }
+
+        String jobId = UUIDUtil.getUUIDWithoutDash();
+        UploadJobResponse pending = UploadJobResponse.pending(jobId);
+        jobs.put(jobId, pending);
+
+        try {
+            uploadJobExecutor.execute(() -> run(pending, request));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(jobId);
+            throw new UploadJobRejectedException();
+        }
+
+        log.debug("Upload job {} has been submitted ({})", jobId, request.originUrl());
+        return pending;
+    }
+
+    public UploadJobResponse getJob(String jobId) {
+        UploadJobResponse job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new UploadJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private void run(UploadJobResponse pending, UploadJobRequest request) {
+        String jobId = pending.jobId();
+        jobs.put(jobId, pending.running());
+
+        UploadJobResponse result;
+        try {
+            String fileName = fileService.storeFile(request.mediaType(), request.originUrl(), request.referenceId());
+            result = pending.completed(createFileUrl(fileName), fileName);
+            log.info("Upload job {} completed ({})", jobId, fileName);
+        } catch (InvalidFileException | InvalidURLException | FileIOException e) {
+            result = pending.failed(e.getMessage());
+            log.warn("Upload job {} failed: {}", jobId, e.getMessage());
+        } catch (RuntimeException e) {
+            result = pending.failed("Internal error");
+            log.error("Upload job {} failed", jobId, e);
+        }
+
+        jobs.put(jobId, result);
+
+        if (hasCallback(request)) {
+            callbackClient.notify(request.callbackUrl(), result);
+        }
+    }
+
+    private boolean hasCallback(UploadJobRequest request) {
+        return request.callbackUrl() != null && !request.callbackUrl().isBlank();
+    }
+
+    private String createFileUrl(String fileName) {
+        return UriComponentsBuilder
+                .fromUriString(externalUrl)
+                .pathSegment(fileName)
+                .build()
+                .toUriString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.posty.fileapi.tool;
+
+import com.posty.fileapi.infrastructure.FileReferenceIndex;
+import com.posty.fileapi.infrastructure.StoragePathResolver;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * base 디렉토리 바로 아래에 저장된 파일을 해시 디렉토리 구조로 옮기는 오프라인 도구
+ * <p>
+ * 실행: ./gradlew :file-api:migrateStorageLayout -PbaseDir=/file [-PdryRun=true]
+ * <br>
+ * 같은 디렉토리 안에서 이름만 바꾸므로 파일 내용은 복사하지 않으며, 중간에 멈추더라도 다시 실행하면 남은 파일부터 옮긴다.
+ * <br>
+ * 파일의 참조 기록(.파일명.refs)도 함께 옮기며, 서비스를 멈춘 상태에서 실행해야 한다. (파일과 기록을 따로 옮기므로)
+ */
+public class StorageLayoutMigration {
+
+    private static final String REFERENCE_SUFFIX = ".refs";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args[0].isBlank()) {
+            System.err.println("Usage: StorageLayoutMigration <baseDir> [dryRun]");
+            System.exit(1);
+        }
+
+        Path basePath = Paths.get(args[0]);
+        boolean dryRun = args.length > 1 && Boolean.parseBoolean(args[1]);
+
+        long moved = migrate(basePath, dryRun);
+        System.out.printf("%s %d files in %s%n", dryRun ? "Would move" : "Moved", moved, basePath);
+    }
+
+    public static long migrate(Path basePath, boolean dryRun) throws IOException {
+        StoragePathResolver resolver = new StoragePathResolver(basePath);
+
+        long moved = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(basePath, Files::isRegularFile)) {
+            for (Path legacyPath : files) {
+                String fileName = legacyPath.getFileName().toString();
+                if (!fileName.startsWith(".")) {
+                    move(legacyPath, resolver.resolve(fileName), dryRun);
+                    moved++;
+                    continue;
+                }
+
+                // 참조 기록은 저장 파일과 같은 디렉토리로 옮기고, 저장 중인 숨김 파일(.tmp)은 건너뜀
+                if (fileName.endsWith(REFERENCE_SUFFIX)) {
+                    String storedFileName = fileName.substring(1, fileName.length() - REFERENCE_SUFFIX.length());
+                    move(legacyPath, FileReferenceIndex.referencePath(resolver.resolve(storedFileName)), dryRun);
+                }
+            }
+        }
+        return moved;
+    }
+
+    private static void move(Path legacyPath, Path targetPath, boolean dryRun) throws IOException {
+        if (dryRun) {
+            return;
+        }
+        Files.createDirectories(targetPath.getParent());
+        Files.move(legacyPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
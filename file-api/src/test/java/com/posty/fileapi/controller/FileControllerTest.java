@@ -3,84 +3,136 @@ package com.posty.fileapi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.posty.fileapi.dto.FileUploadRequest;
 import com.posty.fileapi.dto.MediaType;
+import com.posty.fileapi.dto.UploadJobRequest;
+import com.posty.fileapi.dto.UploadJobResponse;
+import com.posty.fileapi.error.UploadJobNotFoundException;
+import com.posty.fileapi.error.UploadJobRejectedException;
+import com.posty.fileapi.infrastructure.FileSender;
+import com.posty.fileapi.infrastructure.StoredFileCache;
 import com.posty.fileapi.properties.ApiConfig;
+import com.posty.fileapi.properties.CacheConfig;
 import com.posty.fileapi.service.FileService;
+import com.posty.fileapi.service.FileStreamService;
+import com.posty.fileapi.service.StoredFile;
+import com.posty.fileapi.service.UploadJobService;
 import com.posty.fileapi.support.TestSecurityConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(FileController.class)
 @ActiveProfiles("test")
-@Import({TestSecurityConfig.class, ApiConfig.class})
+@Import({
+        TestSecurityConfig.class,
+        ApiConfig.class,
+        CacheConfig.class,
+        FileSender.class,
+        StoredFileCache.class,
+        FileStreamService.class
+})
 class FileControllerTest {
 
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @TempDir
+    Path tempFolder;
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     private FileService fileService;
 
+    @MockitoBean
+    private UploadJobService uploadJobService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    private StoredFile storedFile(String fileName, byte[] content, String contentType) throws IOException {
+        Path path = tempFolder.resolve(fileName);
+        Files.write(path, content);
+        return new StoredFile(fileName, path, content.length, LAST_MODIFIED, contentType);
+    }
+
+    private byte[] sequentialBytes(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
     @Test
-    @DisplayName("파일 전체 조회 성공")
+    @DisplayName("파일 전체 조회 성공 - 캐시 헤더 포함")
     void getFile_FullContent_Success() throws Exception {
         // given
         String fileName = "full-file.txt";
         byte[] contentBytes = "This is full content of the file.".getBytes();
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, contentBytes, "text/plain"));
 
-        Resource resource = new ByteArrayResource(contentBytes) {
-            @Override
-            public String getFilename() {
-                return fileName;
-            }
-        };
-
-        given(fileService.getFileResource(fileName)).willReturn(resource);
+        // when
+        MvcResult result = mockMvc.perform(get("/{fileName}", fileName))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
-        // when & then
-        mockMvc.perform(get("/{fileName}", fileName))
+        // then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/plain"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"full-file.txt\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                 .andExpect(content().bytes(contentBytes));
     }
 
     @Test
-    @DisplayName("파일 조회 성공")
-    void getFile_Success() throws Exception {
+    @DisplayName("파일 조회 - ETag가 일치하면 304")
+    void getFile_IfNoneMatch_NotModified() throws Exception {
         // given
-        String fileName = "test.txt";
-        String content = "test content";
-        byte[] contentBytes = content.getBytes();
+        String fileName = "cached.png";
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, new byte[10], "image/png"));
 
-        Resource resource = new ByteArrayResource(contentBytes) {
-            @Override
-            public String getFilename() {
-                return fileName;
-            }
-        };
+        // when & then
+        mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"cached.png\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
 
-        given(fileService.getFileResource(fileName)).willReturn(resource);
+    @Test
+    @DisplayName("파일 조회 - 수정 시각 이후 변경이 없으면 304")
+    void getFile_IfModifiedSince_NotModified() throws Exception {
+        // given
+        String fileName = "cached.png";
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, new byte[10], "image/png"));
 
         // when & then
-        mockMvc.perform(get("/{fileName}", fileName))
-                .andExpect(status().isOk())
-                .andExpect(content().string(content));
+        mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED + 1000))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -89,25 +141,153 @@ class FileControllerTest {
         // given
         String fileName = "video.mp4";
         byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, content, "video/mp4"));
 
-        Resource resource = new ByteArrayResource(content) {
-            @Override
-            public String getFilename() {
-                return fileName;
-            }
-        };
-
-        given(fileService.getFileResource(fileName)).willReturn(resource);
-
-        // when & then
-        mockMvc.perform(get("/{fileName}", fileName)
+        // when
+        MvcResult result = mockMvc.perform(get("/{fileName}", fileName)
                         .header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isPartialContent())
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "video/mp4"))
                 .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
-                .andExpect(content().bytes(
-                        java.util.Arrays.copyOfRange(content, 100, 200)
-                ));
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+    }
+
+    @Test
+    @DisplayName("파일 조회 - 마지막 N byte(suffix) Range 요청")
+    void getFile_SuffixRangeRequest() throws Exception {
+        // given
+        String fileName = "video.mp4";
+        byte[] content = sequentialBytes(1000);
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, content, "video/mp4"));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.RANGE, "bytes=-300"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 700-999/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 700, 1000)));
+    }
+
+    @Test
+    @DisplayName("파일 조회 - 여러 범위 요청 시 multipart/byteranges 응답")
+    void getFile_MultiRangeRequest() throws Exception {
+        // given
+        String fileName = "video.mp4";
+        byte[] content = sequentialBytes(1000);
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, content, "video/mp4"));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.RANGE, "bytes=0-9, 500-509"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        MvcResult dispatched = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("multipart/byteranges;boundary=")))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andReturn();
+
+        String contentType = dispatched.getResponse().getContentType();
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + 9);
+        byte[] body = dispatched.getResponse().getContentAsByteArray();
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+
+        assertThat(body.length).isEqualTo(dispatched.getResponse().getContentLength());
+        assertThat(text).contains("Content-Range: bytes 0-9/1000\r\n\r\n"
+                + new String(Arrays.copyOfRange(content, 0, 10), StandardCharsets.ISO_8859_1));
+        assertThat(text).contains("Content-Range: bytes 500-509/1000\r\n\r\n"
+                + new String(Arrays.copyOfRange(content, 500, 510), StandardCharsets.ISO_8859_1));
+        assertThat(text).endsWith("\r\n--" + boundary + "--\r\n");
+    }
+
+    @Test
+    @DisplayName("파일 조회 - If-Range가 일치하지 않으면 Range를 무시하고 전체 응답")
+    void getFile_IfRangeMismatch_FullContent() throws Exception {
+        // given
+        String fileName = "video.mp4";
+        byte[] content = sequentialBytes(1000);
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, content, "video/mp4"));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"other.mp4\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("파일 조회 - If-Range가 일치하면 부분 응답")
+    void getFile_IfRangeMatch_PartialContent() throws Exception {
+        // given
+        String fileName = "video.mp4";
+        byte[] content = sequentialBytes(1000);
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, content, "video/mp4"));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"video.mp4\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+    }
+
+    @Test
+    @DisplayName("파일 조회 - 파일 크기를 벗어난 Range 요청 시 416")
+    void getFile_UnsatisfiableRange() throws Exception {
+        // given
+        String fileName = "video.mp4";
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile(fileName, new byte[1000], "video/mp4"));
+
+        // when & then
+        mockMvc.perform(get("/{fileName}", fileName)
+                        .header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"));
+    }
+
+    @Test
+    @DisplayName("파일 조회 - sendfile을 지원하면 본문 없이 컨테이너에 위치만 넘김")
+    void getFile_Sendfile() throws Exception {
+        // given
+        String fileName = "large.mp4";
+        StoredFile storedFile = storedFile(fileName, new byte[100_000], "video/mp4");
+        given(fileService.getStoredFile(fileName)).willReturn(storedFile);
+
+        // when & then
+        mockMvc.perform(get("/{fileName}", fileName)
+                        .requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100_000))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", storedFile.path().toAbsolutePath().toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 0L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 100_000L));
     }
 
     @Test
@@ -126,9 +306,9 @@ class FileControllerTest {
     @DisplayName("파일 업로드 성공")
     void upload_Success() throws Exception {
         // given
-        FileUploadRequest request = new FileUploadRequest(MediaType.IMAGE, "http://example.com/image.jpg");
+        FileUploadRequest request = new FileUploadRequest(MediaType.IMAGE, "http://example.com/image.jpg", "1");
         String fileName = "stored-image.jpg";
-        given(fileService.storeFile(request.mediaType(), request.originUrl())).willReturn(fileName);
+        given(fileService.storeFile(request.mediaType(), request.originUrl(), request.referenceId())).willReturn(fileName);
 
         // when & then
         mockMvc.perform(post("/")
@@ -140,11 +320,82 @@ class FileControllerTest {
                 .andExpect(jsonPath("$.storedFilename").value(fileName));
     }
 
+    @Test
+    @DisplayName("업로드 작업 요청 - 202와 상태 조회 위치 반환")
+    void submitUploadJob_Accepted() throws Exception {
+        // given
+        UploadJobRequest request = new UploadJobRequest(MediaType.VIDEO, "http://example.com/video.mp4", "1", null);
+        given(uploadJobService.submit(request)).willReturn(UploadJobResponse.pending("job1"));
+
+        // when & then
+        mockMvc.perform(post("/jobs")
+                        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "https://example.com/jobs/job1"))
+                .andExpect(jsonPath("$.jobId").value("job1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("업로드 작업 요청 실패 - 대기 중인 작업이 너무 많으면 503")
+    void submitUploadJob_Rejected() throws Exception {
+        // given
+        UploadJobRequest request = new UploadJobRequest(MediaType.VIDEO, "http://example.com/video.mp4", "1", null);
+        given(uploadJobService.submit(request)).willThrow(new UploadJobRejectedException());
+
+        // when & then
+        mockMvc.perform(post("/jobs")
+                        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("업로드 작업 조회 - 완료된 작업의 저장 결과 반환")
+    void getUploadJob_Completed() throws Exception {
+        // given
+        UploadJobResponse completed = UploadJobResponse.pending("job1")
+                .completed("https://example.com/stored.mp4", "stored.mp4");
+        given(uploadJobService.getJob("job1")).willReturn(completed);
+
+        // when & then
+        mockMvc.perform(get("/jobs/{jobId}", "job1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.storedFilename").value("stored.mp4"));
+    }
+
+    @Test
+    @DisplayName("업로드 작업 조회 실패 - 없거나 만료된 작업")
+    void getUploadJob_NotFound() throws Exception {
+        // given
+        given(uploadJobService.getJob("missing")).willThrow(new UploadJobNotFoundException("missing"));
+
+        // when & then
+        mockMvc.perform(get("/jobs/{jobId}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("파일 참조 추가 성공")
+    void addReference_Success() throws Exception {
+        // given
+        String fileName = "stored-image.jpg";
+        given(fileService.addReference(fileName, "2")).willReturn(fileName);
+
+        // when & then
+        mockMvc.perform(post("/{fileName}/references/{referenceId}", fileName, "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.storedUrl").value("https://example.com/stored-image.jpg"))
+                .andExpect(jsonPath("$.storedFilename").value(fileName));
+    }
+
     @Test
     @DisplayName("파일 업로드 실패 - 필수값 누락")
     void upload_NullField_BadRequest() throws Exception {
         // given
-        FileUploadRequest request = new FileUploadRequest(null, "https://example.com/test.jpg");
+        FileUploadRequest request = new FileUploadRequest(null, "https://example.com/test.jpg", "1");
 
         // when & then
         mockMvc.perform(post("/")
@@ -158,7 +409,7 @@ class FileControllerTest {
     @DisplayName("파일 업로드 실패 - 유효하지 않은 URL 형식")
     void upload_InvalidUrl_BadRequest() throws Exception {
         // given
-        FileUploadRequest request = new FileUploadRequest(MediaType.IMAGE, "not-a-url");
+        FileUploadRequest request = new FileUploadRequest(MediaType.IMAGE, "not-a-url", "1");
 
         // when & then
         mockMvc.perform(post("/")
@@ -169,24 +420,40 @@ class FileControllerTest {
     }
 
     @Test
-    @DisplayName("파일 삭제 성공")
-    void deleteFile_Success() throws Exception {
+    @DisplayName("파일 업로드 실패 - 참조 ID 형식 오류")
+    void upload_InvalidReferenceId_BadRequest() throws Exception {
+        // given
+        FileUploadRequest request = new FileUploadRequest(MediaType.IMAGE, "http://example.com/image.jpg", "../1");
+
+        // when & then
+        mockMvc.perform(post("/")
+                        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Invalid request")));
+    }
+
+    @Test
+    @DisplayName("파일 참조 해제 성공")
+    void releaseReference_Success() throws Exception {
         // given
         String fileName = "delete-me.txt";
 
         // when & then
-        mockMvc.perform(delete("/{fileName}", fileName))
+        mockMvc.perform(delete("/{fileName}/references/{referenceId}", fileName, "1"))
                 .andExpect(status().isNoContent());
+
+        verify(fileService).releaseReference(fileName, "1");
     }
 
     @Test
-    @DisplayName("파일 삭제 실패 - PathVariable 제약 조건 위반")
-    void deleteFile_InvalidPathVariable_BadRequest() throws Exception {
+    @DisplayName("파일 참조 해제 실패 - PathVariable 제약 조건 위반")
+    void releaseReference_InvalidPathVariable_BadRequest() throws Exception {
         // given
-        String shortFileName = " ";
+        String invalidReferenceId = "a.b";
 
         // when & then
-        mockMvc.perform(delete("/{fileName}", shortFileName))
+        mockMvc.perform(delete("/{fileName}/references/{referenceId}", "delete-me.txt", invalidReferenceId))
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string(containsString("Invalid request")));
     }
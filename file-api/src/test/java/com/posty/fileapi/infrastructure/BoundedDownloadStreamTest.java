@@ -0,0 +1,56 @@
+package com.posty.fileapi.infrastructure;
+
+import com.posty.fileapi.error.InvalidFileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedDownloadStreamTest {
+
+    private static final long ONE_MINUTE_LATER = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+
+    @Test
+    @DisplayName("최대 크기 이하 - 전부 읽음")
+    void read_WithinMaxSize() throws IOException {
+        // given
+        InputStream stream = new BoundedDownloadStream(new ByteArrayInputStream(new byte[100]), 100, ONE_MINUTE_LATER);
+
+        // when
+        byte[] read = stream.readAllBytes();
+
+        // then
+        assertThat(read).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 - 초과하는 순간 중단")
+    void read_ExceedsMaxSize() {
+        // given
+        InputStream stream = new BoundedDownloadStream(new ByteArrayInputStream(new byte[101]), 100, ONE_MINUTE_LATER);
+
+        // when & then
+        assertThatThrownBy(stream::readAllBytes)
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessage("Invalid file size!");
+    }
+
+    @Test
+    @DisplayName("전체 전송 시간 초과 - 중단")
+    void read_DeadlinePassed() {
+        // given
+        long deadlineNanos = System.nanoTime() - 1;
+        InputStream stream = new BoundedDownloadStream(new ByteArrayInputStream(new byte[10]), 100, deadlineNanos);
+
+        // when & then
+        assertThatThrownBy(stream::read)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("total timeout");
+    }
+}
@@ -0,0 +1,222 @@
+package com.posty.fileapi.infrastructure;
+
+import com.posty.fileapi.properties.ClamAVConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClamAVScannerTest {
+
+    private static final String EICAR_MARKER = "EICAR";
+
+    @TempDir
+    Path tempFolder;
+
+    private ServerSocket serverSocket;
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+
+    private ClamAVConfig config;
+    private ClamAVScanner clamAVScanner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+        startDaemon(this::acceptLoop);
+
+        config = new ClamAVConfig();
+        config.setHost("localhost");
+        config.setPort(serverSocket.getLocalPort());
+        config.setPoolSize(2);
+        config.setChunkSize(65536);
+        config.setConnectTimeout(1000);
+        config.setScanTimeout(5000);
+        config.setSessionIdleTimeout(20000);
+        config.setStreamScan(true);
+        clamAVScanner = new ClamAVScanner(config);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        clamAVScanner.closeSessions();
+        serverSocket.close();
+    }
+
+    @Test
+    @DisplayName("정상 파일 - 연결을 재사용하여 여러 번 검사")
+    void scanFile_ReusesSession() throws IOException {
+        // given
+        Path file = Files.write(tempFolder.resolve("clean.bin"), new byte[200_000]);
+
+        // when
+        boolean first = clamAVScanner.scanFile(file.toString());
+        boolean second = clamAVScanner.scanFile(file.toString());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(acceptedConnections.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("악성 파일 - false 반환")
+    void scanFile_Malicious() throws IOException {
+        // given
+        Path file = Files.writeString(tempFolder.resolve("virus.bin"), "X5O " + EICAR_MARKER + " TEST");
+
+        // when
+        boolean clean = clamAVScanner.scanFile(file.toString());
+
+        // then
+        assertThat(clean).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 검사 - 나누어 쓴 내용을 모아 검사하고 연결 재사용")
+    void startStreamScan_Clean() throws IOException {
+        // given
+        Path file = Files.write(tempFolder.resolve("clean.bin"), new byte[10]);
+        byte[] content = new byte[150_000];
+
+        // when
+        Optional<Boolean> clean;
+        try (ClamAVStreamScan streamScan = clamAVScanner.startStreamScan()) {
+            streamScan.write(content, 0, 100_000);
+            streamScan.write(content, 100_000, 50_000);
+            clean = streamScan.finish();
+        }
+        boolean fileClean = clamAVScanner.scanFile(file.toString());
+
+        // then
+        assertThat(clean).contains(true);
+        assertThat(fileClean).isTrue();
+        assertThat(acceptedConnections.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 검사 - 악성 내용이면 false")
+    void startStreamScan_Malicious() {
+        // given
+        byte[] content = ("X5O " + EICAR_MARKER + " TEST").getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        Optional<Boolean> clean;
+        try (ClamAVStreamScan streamScan = clamAVScanner.startStreamScan()) {
+            streamScan.write(content, 0, content.length);
+            clean = streamScan.finish();
+        }
+
+        // then
+        assertThat(clean).contains(false);
+    }
+
+    @Test
+    @DisplayName("동시 검사 - clamd 연결 실패 시 빈 결과")
+    void startStreamScan_ConnectionRefused() {
+        // given
+        ClamAVScanner refusingScanner = createRefusingScanner();
+
+        // when
+        Optional<Boolean> clean;
+        try (ClamAVStreamScan streamScan = refusingScanner.startStreamScan()) {
+            streamScan.write(new byte[10], 0, 10);
+            clean = streamScan.finish();
+        }
+
+        // then
+        assertThat(clean).isEmpty();
+    }
+
+    @Test
+    @DisplayName("clamd 연결 실패 - 예외 발생")
+    void scanFile_ConnectionRefused() throws IOException {
+        // given
+        Path file = Files.write(tempFolder.resolve("clean.bin"), new byte[10]);
+        ClamAVScanner refusingScanner = createRefusingScanner();
+
+        // when & then
+        assertThatThrownBy(() -> refusingScanner.scanFile(file.toString()))
+                .isInstanceOf(ConnectException.class);
+    }
+
+    // 닫은 포트는 다른 소켓이 다시 쓸 수 있으므로 연결 거부는 직접 만들어서 확인
+    private ClamAVScanner createRefusingScanner() {
+        return new ClamAVScanner(config, (host, port, connectTimeout, scanTimeout, chunkSize) -> {
+            throw new ConnectException("Connection refused");
+        });
+    }
+
+    // IDSESSION과 INSTREAM만 흉내내는 clamd
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                acceptedConnections.incrementAndGet();
+                startDaemon(() -> serveSession(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serveSession(Socket socket) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+
+            int requestId = 0;
+            String command;
+            while ((command = readCommand(in)) != null) {
+                if (command.equals("zEND")) {
+                    return;
+                }
+                if (!command.equals("zINSTREAM")) {
+                    continue;
+                }
+
+                requestId++;
+                StringBuilder content = new StringBuilder();
+                int length;
+                while ((length = in.readInt()) > 0) {
+                    content.append(new String(in.readNBytes(length), StandardCharsets.US_ASCII));
+                }
+
+                String verdict = content.indexOf(EICAR_MARKER) != -1 ? "Eicar-Signature FOUND" : "OK";
+                out.write((requestId + ": stream: " + verdict + "\0").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void startDaemon(Runnable task) {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private String readCommand(DataInputStream in) throws IOException {
+        StringBuilder command = new StringBuilder();
+        int b;
+        while ((b = in.read()) > 0) {
+            command.append((char) b);
+        }
+        return b == -1 ? null : command.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package com.posty.fileapi.infrastructure;
+
+import com.posty.fileapi.properties.CacheConfig;
+import com.posty.fileapi.service.StoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoredFileCacheTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private StoredFileCache storedFileCache;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig();
+        config.setMetadataMaxSize(100);
+        config.setMetadataTtl(600000);
+        config.setContentEnabled(true);
+        config.setContentMaxFileSize(1024);
+        config.setContentMaxTotalSize(4096);
+        storedFileCache = new StoredFileCache(config);
+    }
+
+    private StoredFile storedFile(String fileName, byte[] content) throws IOException {
+        Path path = Files.write(tempFolder.resolve(fileName), content);
+        return new StoredFile(fileName, path, content.length, 0, "image/png");
+    }
+
+    @Test
+    @DisplayName("작은 파일 - 처음 읽은 내용을 이후 요청에 재사용")
+    void getContent_SmallFile_Cached() throws IOException {
+        // given
+        StoredFile storedFile = storedFile("small.png", new byte[]{1, 2, 3});
+        storedFileCache.getContent(storedFile);
+        Files.delete(storedFile.path());
+
+        // when
+        ByteBuffer content = storedFileCache.getContent(storedFile);
+
+        // then
+        assertThat(content).isNotNull();
+        assertThat(content.isReadOnly()).isTrue();
+        byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        assertThat(bytes).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("큰 파일 - 캐싱하지 않음")
+    void getContent_LargeFile_NotCached() throws IOException {
+        // given
+        StoredFile storedFile = storedFile("large.png", new byte[2048]);
+
+        // when
+        ByteBuffer content = storedFileCache.getContent(storedFile);
+
+        // then
+        assertThat(content).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 - 메타데이터와 내용을 모두 제거")
+    void invalidate() throws IOException {
+        // given
+        StoredFile storedFile = storedFile("removed.png", new byte[]{1, 2, 3});
+        storedFileCache.getMetadata(storedFile.fileName(), fileName -> storedFile);
+        storedFileCache.getContent(storedFile);
+        Files.delete(storedFile.path());
+
+        // when
+        storedFileCache.invalidate(storedFile.fileName());
+
+        // then
+        assertThat(storedFileCache.getContent(storedFile)).isNull();
+        assertThatThrownBy(() -> storedFileCache.getMetadata(storedFile.fileName(), fileName -> {
+            throw new IllegalStateException("reloaded");
+        })).hasMessage("reloaded");
+    }
+}
@@ -0,0 +1,152 @@
+package com.posty.fileapi.infrastructure;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.fileapi.dto.UploadJobResponse;
+import com.posty.fileapi.properties.UploadJobConfig;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UploadJobCallbackClientTest {
+
+    private static final String SECRET = "callback-secret";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private HttpServer server;
+    private String baseUrl;
+
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicReference<Headers> receivedHeaders = new AtomicReference<>();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+    private UploadJobCallbackClient callbackClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            received.incrementAndGet();
+            receivedHeaders.set(exchange.getRequestHeaders());
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        callbackClient = new UploadJobCallbackClient(
+                createConfig(List.of(baseUrl + "/media/callback"), SECRET),
+                objectMapper,
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("콜백 전송 - 본문 서명을 보내고 API 토큰은 보내지 않음")
+    void notify_Signed() throws Exception {
+        // given
+        UploadJobResponse result = UploadJobResponse.pending("job1").completed("https://example.com/a.mp4", "a.mp4");
+
+        // when
+        callbackClient.notify(baseUrl + "/media/callback/job1", result);
+
+        // then
+        assertThat(received.get()).isEqualTo(1);
+        Headers headers = receivedHeaders.get();
+        String body = receivedBody.get();
+        String timestamp = String.valueOf(NOW.getEpochSecond());
+
+        assertThat(objectMapper.readValue(body, UploadJobResponse.class)).isEqualTo(result);
+        assertThat(headers.getFirst(UploadJobCallbackClient.TIMESTAMP_HEADER)).isEqualTo(timestamp);
+        assertThat(headers.getFirst(UploadJobCallbackClient.SIGNATURE_HEADER)).isEqualTo("sha256=" + hmac(timestamp + "." + body));
+        assertThat(headers.containsKey("Authorization")).isFalse();
+    }
+
+    @Test
+    @DisplayName("콜백 전송 안 함 - 허용되지 않은 주소")
+    void notify_Disallowed() {
+        // when
+        callbackClient.notify("http://127.0.0.1:" + server.getAddress().getPort() + "/media/callback", UploadJobResponse.pending("job1"));
+
+        // then
+        assertThat(received.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("콜백 주소 검사 - scheme, host, port가 같고 허용된 경로 아래인 주소만 허용")
+    void isAllowed() {
+        int port = server.getAddress().getPort();
+
+        assertThat(callbackClient.isAllowed(baseUrl + "/media/callback")).isTrue();
+        assertThat(callbackClient.isAllowed(baseUrl + "/media/callback/job1?x=1")).isTrue();
+        assertThat(callbackClient.isAllowed("HTTP://LOCALHOST:" + port + "/media/callback")).isTrue();
+
+        assertThat(callbackClient.isAllowed("https://localhost:" + port + "/media/callback")).isFalse();
+        assertThat(callbackClient.isAllowed("http://localhost:" + (port + 1) + "/media/callback")).isFalse();
+        assertThat(callbackClient.isAllowed("http://169.254.169.254/media/callback")).isFalse();
+        assertThat(callbackClient.isAllowed("http://user@localhost:" + port + "/media/callback")).isFalse();
+        assertThat(callbackClient.isAllowed(baseUrl + "/media/callback-admin")).isFalse();
+        assertThat(callbackClient.isAllowed(baseUrl + "/media/callback/../../admin")).isFalse();
+        assertThat(callbackClient.isAllowed(baseUrl + "/media/callback/%2e%2e/%2e%2e/admin")).isFalse();
+        assertThat(callbackClient.isAllowed("not a url")).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정 오류 - 허용 주소가 있는데 서명 키가 없음")
+    void create_MissingSecret() {
+        UploadJobConfig config = createConfig(List.of(baseUrl + "/media/callback"), "");
+
+        assertThatThrownBy(() -> new UploadJobCallbackClient(config, objectMapper))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("허용 주소가 없으면 모든 콜백 주소를 거절")
+    void isAllowed_NoAllowedUrls() {
+        UploadJobCallbackClient client = new UploadJobCallbackClient(createConfig(List.of(), null), objectMapper);
+
+        assertThat(client.isAllowed(baseUrl + "/media/callback")).isFalse();
+    }
+
+    private UploadJobConfig createConfig(List<String> allowedUrls, String secret) {
+        UploadJobConfig config = new UploadJobConfig();
+        config.setCallbackTimeout(1000);
+        config.setCallbackAllowedUrls(allowedUrls);
+        config.setCallbackSecret(secret);
+        return config;
+    }
+
+    private String hmac(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
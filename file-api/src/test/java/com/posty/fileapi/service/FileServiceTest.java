@@ -3,9 +3,14 @@ package com.posty.fileapi.service;
 import com.posty.fileapi.dto.MediaType;
 import com.posty.fileapi.error.InvalidFileException;
 import com.posty.fileapi.error.StoredFileNotFoundException;
+import com.posty.fileapi.infrastructure.DownloadResult;
 import com.posty.fileapi.infrastructure.FileDownloader;
+import com.posty.fileapi.infrastructure.FileReferenceIndex;
 import com.posty.fileapi.infrastructure.FileValidator;
 import com.posty.fileapi.infrastructure.MimeMediaType;
+import com.posty.fileapi.infrastructure.StoragePathResolver;
+import com.posty.fileapi.infrastructure.StoredFileCache;
+import com.posty.fileapi.properties.CacheConfig;
 import com.posty.fileapi.properties.DirConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,9 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.Resource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -25,13 +31,20 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class FileServiceTest {
 
+    private static final String CONTENT_SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
     @Mock
     private FileValidator fileValidator;
 
@@ -45,6 +58,7 @@ class FileServiceTest {
     Path tempFolder;
 
     private FileService fileService;
+    private StoragePathResolver storagePathResolver;
     private Path basePath;
     private Path tempPath;
 
@@ -55,34 +69,89 @@ class FileServiceTest {
         Files.createDirectories(basePath);
         Files.createDirectories(tempPath);
 
-        given(dirConfig.getBase()).willReturn(basePath.toString());
         given(dirConfig.getTemp()).willReturn(tempPath.toString());
 
-        fileService = new FileService(fileValidator, fileDownloader, dirConfig);
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setMetadataMaxSize(100);
+        cacheConfig.setMetadataTtl(600000);
+
+        storagePathResolver = new StoragePathResolver(basePath);
+        fileService = new FileService(
+                fileValidator,
+                fileDownloader,
+                storagePathResolver,
+                new FileReferenceIndex(),
+                new StoredFileCache(cacheConfig),
+                dirConfig
+        );
     }
 
     @Test
-    @DisplayName("파일 조회 성공 - Resource 반환")
-    void getFileResource_Success() throws Exception {
+    @DisplayName("파일 조회 성공 - 크기, 수정 시각, 타입 반환")
+    void getStoredFile_Success() throws Exception {
         // given
         String fileName = "test.txt";
-        Path filePath = basePath.resolve(fileName);
+        Path filePath = storagePathResolver.resolve(fileName);
+        Files.createDirectories(filePath.getParent());
         Files.write(filePath, "test content".getBytes());
 
         // when
-        Resource resource = fileService.getFileResource(fileName);
+        StoredFile storedFile = fileService.getStoredFile(fileName);
+
+        // then
+        assertThat(storedFile.path()).isEqualTo(filePath);
+        assertThat(storedFile.size()).isEqualTo(12);
+        assertThat(storedFile.lastModified()).isEqualTo(Files.getLastModifiedTime(filePath).toMillis());
+        assertThat(storedFile.contentType()).isEqualTo("text/plain");
+        assertThat(storedFile.eTag()).isEqualTo("\"test.txt\"");
+    }
+
+    @Test
+    @DisplayName("파일 조회 - 두 번째 조회부터는 파일 시스템을 확인하지 않고 캐시에서 반환")
+    void getStoredFile_Cached() throws Exception {
+        // given
+        String fileName = "cached.png";
+        Path filePath = storagePathResolver.resolve(fileName);
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, new byte[10]);
+        StoredFile first = fileService.getStoredFile(fileName);
+        Files.write(filePath, new byte[20]);
+
+        // when
+        StoredFile second = fileService.getStoredFile(fileName);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("파일 조회 성공 - 이전 위치에 저장된 파일")
+    void getStoredFile_LegacyLocation() throws Exception {
+        // given
+        String fileName = "legacy.txt";
+        Files.write(basePath.resolve(fileName), "legacy content".getBytes());
+
+        // when
+        StoredFile storedFile = fileService.getStoredFile(fileName);
 
         // then
-        assertThat(resource).isNotNull();
-        assertThat(resource.exists()).isTrue();
-        assertThat(resource.getFilename()).isEqualTo(fileName);
+        assertThat(storedFile.path()).isEqualTo(basePath.resolve(fileName));
+    }
+
+    @Test
+    @DisplayName("파일 조회 실패 - 저장 디렉토리 밖을 가리키는 이름")
+    void getStoredFile_PathTraversal() {
+        // when & then
+        assertThatThrownBy(() -> fileService.getStoredFile("../secret.txt"))
+                .isInstanceOf(StoredFileNotFoundException.class);
     }
 
     @Test
     @DisplayName("파일 조회 실패 - 파일 없음")
-    void getFileResource_NotFound() {
+    void getStoredFile_NotFound() {
         // when & then
-        assertThatThrownBy(() -> fileService.getFileResource("nonexistent.txt"))
+        assertThatThrownBy(() -> fileService.getStoredFile("nonexistent.txt"))
                 .isInstanceOf(StoredFileNotFoundException.class);
     }
 
@@ -92,25 +161,59 @@ class FileServiceTest {
         // given
         MediaType mediaType = MediaType.IMAGE;
         String originUrl = "https://example.com/image.jpg";
-        given(fileValidator.getDotExtensionIfValidMimeType(any(URL.class), eq(MimeMediaType.from(mediaType))))
+        givenDetectedType("image/jpeg");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("image/jpeg"), eq(MimeMediaType.from(mediaType))))
                 .willReturn(Optional.of(".jpg"));
         given(fileValidator.isValidSize(any(Path.class))).willReturn(true);
-        given(fileValidator.isMaliciousFile(any(Path.class))).willReturn(false);
+        given(fileValidator.isMaliciousFile(any(Path.class), any())).willReturn(false);
 
         // download 시 임시 파일 생성을 흉내냄
         doAnswer(invocation -> {
             Path targetPath = invocation.getArgument(1);
             Files.write(targetPath, "dummy image content".getBytes());
-            return null;
-        }).when(fileDownloader).download(any(URL.class), any(Path.class));
+            return new DownloadResult(19, CONTENT_SHA256);
+        }).when(fileDownloader).download(any(InputStream.class), any(Path.class), any());
 
         // when
-        String fileName = fileService.storeFile(mediaType, originUrl);
+        String fileName = fileService.storeFile(mediaType, originUrl, "1");
 
         // then
-        assertThat(fileName).isNotNull();
-        assertThat(fileName).endsWith(".jpg");
-        assertThat(Files.exists(basePath.resolve(fileName))).isTrue();
+        assertThat(fileName).isEqualTo(CONTENT_SHA256 + ".jpg");
+        assertThat(storagePathResolver.resolve(fileName)).hasContent("dummy image content");
+        assertThat(tempPath).isEmptyDirectory();
+        verify(fileDownloader, times(1)).openStream(any(URL.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("파일 저장 성공 - 같은 내용이 이미 있으면 검사 없이 기존 파일명 반환")
+    void storeFile_DuplicateContent() throws IOException {
+        // given
+        String fileName = CONTENT_SHA256 + ".jpg";
+        Path storedPath = storagePathResolver.resolve(fileName);
+        Files.createDirectories(storedPath.getParent());
+        Files.write(storedPath, "dummy image content".getBytes());
+
+        MediaType mediaType = MediaType.IMAGE;
+        givenDetectedType("image/jpeg");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("image/jpeg"), eq(MimeMediaType.from(mediaType))))
+                .willReturn(Optional.of(".jpg"));
+        given(fileValidator.isValidSize(any(Path.class))).willReturn(true);
+
+        doAnswer(invocation -> {
+            Path targetPath = invocation.getArgument(1);
+            Files.write(targetPath, "dummy image content".getBytes());
+            return new DownloadResult(19, CONTENT_SHA256);
+        }).when(fileDownloader).download(any(InputStream.class), any(Path.class), any());
+
+        // when
+        String storedFilename = fileService.storeFile(mediaType, "https://example.com/copy.jpg", "2");
+        fileService.releaseReference(storedFilename, "2");
+
+        // then
+        assertThat(storedFilename).isEqualTo(fileName);
+        assertThat(storedPath).exists();
+        assertThat(tempPath).isEmptyDirectory();
+        verify(fileValidator, never()).isMaliciousFile(any(Path.class), any());
     }
 
     @Test
@@ -119,11 +222,12 @@ class FileServiceTest {
         // given
         MediaType mediaType = MediaType.IMAGE;
         String originUrl = "https://example.com/not-image.txt";
-        given(fileValidator.getDotExtensionIfValidMimeType(any(URL.class), eq(MimeMediaType.from(mediaType))))
+        givenDetectedType("text/plain");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("text/plain"), eq(MimeMediaType.from(mediaType))))
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl))
+        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl, "1"))
                 .isInstanceOf(InvalidFileException.class)
                 .hasMessage("Invalid MIME type!");
     }
@@ -134,65 +238,163 @@ class FileServiceTest {
         // given
         MediaType mediaType = MediaType.IMAGE;
         String originUrl = "https://example.com/large.jpg";
-        given(fileValidator.getDotExtensionIfValidMimeType(any(URL.class), eq(MimeMediaType.from(mediaType))))
+        givenDetectedType("image/jpeg");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("image/jpeg"), eq(MimeMediaType.from(mediaType))))
                 .willReturn(Optional.of(".jpg"));
         given(fileValidator.isValidSize(any(Path.class))).willReturn(false);
 
         doAnswer(invocation -> {
             Path targetPath = invocation.getArgument(1);
             Files.write(targetPath, "large content".getBytes());
-            return null;
-        }).when(fileDownloader).download(any(URL.class), any(Path.class));
+            return new DownloadResult(13, CONTENT_SHA256);
+        }).when(fileDownloader).download(any(InputStream.class), any(Path.class), any());
 
         // when & then
-        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl))
+        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl, "1"))
                 .isInstanceOf(InvalidFileException.class)
                 .hasMessage("Invalid file size!");
     }
 
+    @Test
+    @DisplayName("파일 저장 실패 - 다운로드 중 크기 초과 시 임시 파일 삭제")
+    void storeFile_SizeExceededWhileDownloading() throws IOException {
+        // given
+        MediaType mediaType = MediaType.IMAGE;
+        String originUrl = "https://example.com/huge.jpg";
+        givenDetectedType("image/jpeg");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("image/jpeg"), eq(MimeMediaType.from(mediaType))))
+                .willReturn(Optional.of(".jpg"));
+
+        doAnswer(invocation -> {
+            Path targetPath = invocation.getArgument(1);
+            Files.write(targetPath, "partial content".getBytes());
+            throw new InvalidFileException("Invalid file size!");
+        }).when(fileDownloader).download(any(InputStream.class), any(Path.class), any());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl, "1"))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessage("Invalid file size!");
+        assertThat(tempPath).isEmptyDirectory();
+    }
+
     @Test
     @DisplayName("파일 저장 실패 - 악성 파일")
     void storeFile_MaliciousFile() throws IOException {
         // given
         MediaType mediaType = MediaType.IMAGE;
         String originUrl = "https://example.com/virus.jpg";
-        given(fileValidator.getDotExtensionIfValidMimeType(any(URL.class), eq(MimeMediaType.from(mediaType))))
+        givenDetectedType("image/jpeg");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("image/jpeg"), eq(MimeMediaType.from(mediaType))))
                 .willReturn(Optional.of(".jpg"));
         given(fileValidator.isValidSize(any(Path.class))).willReturn(true);
-        given(fileValidator.isMaliciousFile(any(Path.class))).willReturn(true);
+        given(fileValidator.isMaliciousFile(any(Path.class), any())).willReturn(true);
 
         doAnswer(invocation -> {
             Path targetPath = invocation.getArgument(1);
             Files.write(targetPath, "malicious content".getBytes());
-            return null;
-        }).when(fileDownloader).download(any(URL.class), any(Path.class));
+            return new DownloadResult(17, CONTENT_SHA256);
+        }).when(fileDownloader).download(any(InputStream.class), any(Path.class), any());
 
         // when & then
-        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl))
+        assertThatThrownBy(() -> fileService.storeFile(mediaType, originUrl, "1"))
                 .isInstanceOf(InvalidFileException.class)
                 .hasMessage("Malicious file!");
     }
 
+    private void givenDetectedType(String detectedType) throws IOException {
+        given(fileDownloader.openStream(any(URL.class), anyLong())).willReturn(new ByteArrayInputStream(new byte[0]));
+        given(fileValidator.detectContentType(any(InputStream.class), anyString())).willReturn(detectedType);
+    }
+
     @Test
-    @DisplayName("파일 삭제 성공")
-    void deleteFile_Success() throws IOException {
+    @DisplayName("파일 저장 - 같은 ID로 다시 저장해도 참조는 하나")
+    void storeFile_RetriedWithSameReference() throws IOException {
+        // given
+        MediaType mediaType = MediaType.IMAGE;
+        String originUrl = "https://example.com/image.jpg";
+        givenDetectedType("image/jpeg");
+        given(fileValidator.getDotExtensionIfValidMimeType(eq("image/jpeg"), eq(MimeMediaType.from(mediaType))))
+                .willReturn(Optional.of(".jpg"));
+        given(fileValidator.isValidSize(any(Path.class))).willReturn(true);
+        given(fileValidator.isMaliciousFile(any(Path.class), any())).willReturn(false);
+
+        doAnswer(invocation -> {
+            Path targetPath = invocation.getArgument(1);
+            Files.write(targetPath, "dummy image content".getBytes());
+            return new DownloadResult(19, CONTENT_SHA256);
+        }).when(fileDownloader).download(any(InputStream.class), any(Path.class), any());
+
+        // when
+        String fileName = fileService.storeFile(mediaType, originUrl, "1");
+        fileService.storeFile(mediaType, originUrl, "1");
+        fileService.releaseReference(fileName, "1");
+
+        // then
+        assertThat(storagePathResolver.resolve(fileName)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("참조 해제 - 마지막 참조면 파일 삭제")
+    void releaseReference_Success() throws IOException {
         // given
         String fileName = "delete-me.txt";
-        Path filePath = basePath.resolve(fileName);
+        Path filePath = storagePathResolver.resolve(fileName);
+        Files.createDirectories(filePath.getParent());
         Files.write(filePath, "to be deleted".getBytes());
 
         // when
-        fileService.deleteFile(fileName);
+        fileService.releaseReference(fileName, "1");
 
         // then
         assertThat(Files.exists(filePath)).isFalse();
     }
 
     @Test
-    @DisplayName("파일 삭제 실패 - 파일 없음")
-    void deleteFile_NotFound() {
-        // when & then
-        assertThatThrownBy(() -> fileService.deleteFile("nonexistent.txt"))
+    @DisplayName("참조 해제 - 캐시된 정보도 함께 제거")
+    void releaseReference_InvalidatesCache() throws IOException {
+        // given
+        String fileName = "cached-delete.png";
+        Path filePath = storagePathResolver.resolve(fileName);
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, new byte[10]);
+        fileService.getStoredFile(fileName);
+
+        // when
+        fileService.releaseReference(fileName, "1");
+
+        // then
+        assertThatThrownBy(() -> fileService.getStoredFile(fileName))
                 .isInstanceOf(StoredFileNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("참조 해제 - 모든 참조가 해제되어야 파일이 지워지고, 같은 해제 요청을 다시 보내도 다른 참조는 유지")
+    void releaseReference_LastReference() throws IOException {
+        // given
+        String fileName = "shared.jpg";
+        Path filePath = storagePathResolver.resolve(fileName);
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, "shared".getBytes());
+        fileService.addReference(fileName, "2");
+        fileService.addReference(fileName, "2");
+
+        // when
+        fileService.releaseReference(fileName, "2");
+        fileService.releaseReference(fileName, "2");
+        boolean existsAfterRetriedRelease = Files.exists(filePath);
+        fileService.releaseReference(fileName, "1");
+
+        // then
+        assertThat(existsAfterRetriedRelease).isTrue();
+        assertThat(filePath).doesNotExist();
+        assertThat(filePath.getParent()).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("참조 해제 - 이미 삭제된 파일이면 그대로 성공")
+    void releaseReference_AlreadyDeleted() {
+        // when & then
+        fileService.releaseReference("nonexistent.txt", "1");
+    }
 }
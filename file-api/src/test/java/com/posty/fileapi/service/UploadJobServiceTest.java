@@ -0,0 +1,155 @@
+package com.posty.fileapi.service;
+
+import com.posty.fileapi.dto.MediaType;
+import com.posty.fileapi.dto.UploadJobRequest;
+import com.posty.fileapi.dto.UploadJobResponse;
+import com.posty.fileapi.dto.UploadJobStatus;
+import com.posty.fileapi.error.InvalidCallbackURLException;
+import com.posty.fileapi.error.InvalidFileException;
+import com.posty.fileapi.error.UploadJobNotFoundException;
+import com.posty.fileapi.error.UploadJobRejectedException;
+import com.posty.fileapi.infrastructure.UploadJobCallbackClient;
+import com.posty.fileapi.properties.ApiConfig;
+import com.posty.fileapi.properties.UploadJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UploadJobServiceTest {
+
+    private static final String ORIGIN_URL = "http://example.com/video.mp4";
+    private static final String REFERENCE_ID = "1";
+    private static final String CALLBACK_URL = "http://posting-api/callback";
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private UploadJobCallbackClient callbackClient;
+
+    private ThreadPoolTaskExecutor executor;
+    private UploadJobService uploadJobService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        UploadJobConfig uploadJobConfig = new UploadJobConfig();
+        uploadJobConfig.setRetention(60000);
+
+        ApiConfig apiConfig = new ApiConfig();
+        apiConfig.setExternalUrl("https://example.com");
+
+        uploadJobService = new UploadJobService(fileService, callbackClient, executor, uploadJobConfig, apiConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 완료 - 저장 결과를 상태 조회와 콜백으로 전달")
+    void submit_Completed() {
+        // given
+        given(callbackClient.isAllowed(CALLBACK_URL)).willReturn(true);
+        given(fileService.storeFile(MediaType.VIDEO, ORIGIN_URL, REFERENCE_ID)).willReturn("stored.mp4");
+
+        // when
+        UploadJobResponse pending = uploadJobService.submit(new UploadJobRequest(MediaType.VIDEO, ORIGIN_URL, REFERENCE_ID, CALLBACK_URL));
+
+        // then
+        assertThat(pending.status()).isEqualTo(UploadJobStatus.PENDING);
+
+        UploadJobResponse expected = pending.completed("https://example.com/stored.mp4", "stored.mp4");
+        verify(callbackClient, timeout(5000)).notify(CALLBACK_URL, expected);
+        assertThat(uploadJobService.getJob(pending.jobId())).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("작업 실패 - 실패 사유를 기록하고 콜백 주소가 없으면 보내지 않음")
+    void submit_Failed() throws InterruptedException {
+        // given
+        given(fileService.storeFile(MediaType.VIDEO, ORIGIN_URL, REFERENCE_ID)).willThrow(new InvalidFileException("Invalid MIME type!"));
+
+        // when
+        UploadJobResponse pending = uploadJobService.submit(new UploadJobRequest(MediaType.VIDEO, ORIGIN_URL, REFERENCE_ID, null));
+
+        // then
+        UploadJobResponse job = pending;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = uploadJobService.getJob(pending.jobId());
+        }
+
+        assertThat(job.status()).isEqualTo(UploadJobStatus.FAILED);
+        assertThat(job.error()).isEqualTo("Invalid MIME type!");
+        verify(callbackClient, never()).notify(any(), any());
+    }
+
+    @Test
+    @DisplayName("작업 거절 - 허용되지 않은 콜백 주소면 작업을 만들지 않고 예외")
+    void submit_DisallowedCallbackUrl() {
+        // given
+        String callbackUrl = "http://169.254.169.254/latest/meta-data";
+        given(callbackClient.isAllowed(callbackUrl)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> uploadJobService.submit(new UploadJobRequest(MediaType.VIDEO, ORIGIN_URL, REFERENCE_ID, callbackUrl)))
+                .isInstanceOf(InvalidCallbackURLException.class);
+        verify(fileService, never()).storeFile(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작업 거절 - 실행 중인 작업과 대기열이 가득 차면 예외")
+    void submit_Rejected() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        given(fileService.storeFile(eq(MediaType.VIDEO), any(), any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "stored.mp4";
+        });
+        UploadJobRequest request = new UploadJobRequest(MediaType.VIDEO, ORIGIN_URL, REFERENCE_ID, null);
+
+        try {
+            uploadJobService.submit(request);
+            uploadJobService.submit(request);
+
+            // when & then
+            assertThatThrownBy(() -> uploadJobService.submit(request))
+                    .isInstanceOf(UploadJobRejectedException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("작업 조회 실패 - 없는 작업")
+    void getJob_NotFound() {
+        assertThatThrownBy(() -> uploadJobService.getJob("missing"))
+                .isInstanceOf(UploadJobNotFoundException.class);
+    }
+}
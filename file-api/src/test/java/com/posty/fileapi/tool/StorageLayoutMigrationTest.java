@@ -0,0 +1,79 @@
+package com.posty.fileapi.tool;
+
+import com.posty.fileapi.infrastructure.FileReferenceIndex;
+import com.posty.fileapi.infrastructure.StoragePathResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageLayoutMigrationTest {
+
+    @TempDir
+    Path basePath;
+
+    @Test
+    @DisplayName("이전 위치의 파일을 해시 디렉토리로 이동")
+    void migrate_MovesFlatFiles() throws IOException {
+        // given
+        Files.writeString(basePath.resolve("a.jpg"), "a");
+        Files.writeString(basePath.resolve("b.mp4"), "b");
+        Files.writeString(basePath.resolve(".c.jpg.tmp"), "in progress");
+        StoragePathResolver resolver = new StoragePathResolver(basePath);
+
+        // when
+        long moved = StorageLayoutMigration.migrate(basePath, false);
+
+        // then
+        assertThat(moved).isEqualTo(2);
+        assertThat(resolver.resolve("a.jpg")).hasContent("a");
+        assertThat(resolver.resolve("b.mp4")).hasContent("b");
+        assertThat(resolver.resolve("a.jpg").getParent().getParent().getParent()).isEqualTo(basePath);
+        assertThat(basePath.resolve("a.jpg")).doesNotExist();
+        assertThat(basePath.resolve(".c.jpg.tmp")).exists();
+    }
+
+    @Test
+    @DisplayName("참조 기록이 있는 파일은 기록도 함께 옮겨 마지막 참조가 해제될 때만 삭제됨")
+    void migrate_MovesReferences() throws IOException {
+        // given
+        Files.writeString(basePath.resolve("shared.jpg"), "shared");
+        FileReferenceIndex fileReferenceIndex = new FileReferenceIndex();
+        fileReferenceIndex.add(basePath.resolve("shared.jpg"), "2");
+        Files.writeString(basePath.resolve(".shared.jpg.refs.tmp"), "in progress");
+        StoragePathResolver resolver = new StoragePathResolver(basePath);
+
+        // when
+        long moved = StorageLayoutMigration.migrate(basePath, false);
+
+        // then
+        Path targetPath = resolver.resolve("shared.jpg");
+        assertThat(moved).isEqualTo(1);
+        assertThat(FileReferenceIndex.referencePath(targetPath)).exists();
+        assertThat(basePath.resolve(".shared.jpg.refs")).doesNotExist();
+        assertThat(basePath.resolve(".shared.jpg.refs.tmp")).exists();
+
+        // 기록 전부터 있던 참조(ID 모름)와 추가된 참조(2)가 모두 남아 있음
+        assertThat(fileReferenceIndex.release(targetPath, "1")).isFalse();
+        assertThat(fileReferenceIndex.release(targetPath, "2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("dryRun이면 이동하지 않고 대상 수만 반환")
+    void migrate_DryRun() throws IOException {
+        // given
+        Files.writeString(basePath.resolve("a.jpg"), "a");
+
+        // when
+        long moved = StorageLayoutMigration.migrate(basePath, true);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(basePath.resolve("a.jpg")).exists();
+    }
+}
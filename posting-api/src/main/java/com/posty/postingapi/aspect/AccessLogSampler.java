@@ -0,0 +1,57 @@
+package com.posty.postingapi.aspect;
+
+import com.posty.postingapi.properties.AccessLogProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청/응답 로그를 남길 요청을 고름
+ * <p>
+ * 요청마다 한 번 결정하여 요청 속성에 저장하므로, 요청 로그와 응답 로그는 항상 함께 기록되거나 함께 생략된다.
+ */
+@Component
+public class AccessLogSampler {
+
+    private static final String SAMPLED_ATTRIBUTE = AccessLogSampler.class.getName() + ".sampled";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final double defaultSampleRate;
+    private final List<AccessLogProperties.EndpointProperties> endpoints;
+
+    public AccessLogSampler(AccessLogProperties accessLogProperties) {
+        defaultSampleRate = accessLogProperties.getSampleRate();
+        endpoints = List.copyOf(accessLogProperties.getEndpoints());
+    }
+
+    // 이미 결정된 요청(본문 캐싱 필터에서 먼저 결정한 경우)은 그 결과를 그대로 사용
+    public boolean sample(HttpServletRequest request) {
+        if (request.getAttribute(SAMPLED_ATTRIBUTE) instanceof Boolean sampled) {
+            return sampled;
+        }
+
+        double sampleRate = findSampleRate(request.getRequestURI());
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+
+        request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+        return sampled;
+    }
+
+    // 요청 로그를 거치지 않은 요청(필터에서 끝난 요청 등)은 기록 대상으로 봄
+    public boolean isSampled(HttpServletRequest request) {
+        return !Boolean.FALSE.equals(request.getAttribute(SAMPLED_ATTRIBUTE));
+    }
+
+    private double findSampleRate(String path) {
+        for (AccessLogProperties.EndpointProperties endpoint : endpoints) {
+            if (pathMatcher.match(endpoint.getPattern(), path)) {
+                return endpoint.getSampleRate();
+            }
+        }
+        return defaultSampleRate;
+    }
+}
@@ -0,0 +1,221 @@
+package com.posty.postingapi.aspect;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.properties.AccessLogProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청/응답 본문을 로그용 JSON 문자열로 만듦
+ * <p>
+ * 민감한 필드(maskedFields)의 값은 JSON을 쓰는 중에 바로 가리고, maxBodySize를 넘으면 그 자리에서 직렬화를 멈춘다.
+ * <br>
+ * 따라서 큰 응답도 로그를 위해 끝까지 직렬화하지 않으며, 본문 문자열을 다시 정규식으로 훑지 않음
+ */
+@Component
+public class LogBodyWriter {
+
+    private static final String MASK = "****";
+    private static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+
+    private final int maxBodySize;
+    private final Set<String> maskedFields;
+
+    public LogBodyWriter(ObjectMapper objectMapper, AccessLogProperties accessLogProperties) {
+        this.objectMapper = objectMapper;
+        jsonFactory = objectMapper.getFactory();
+
+        maxBodySize = accessLogProperties.getMaxBodySize();
+        maskedFields = accessLogProperties.getMaskedFields().stream()
+                .map(field -> field.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String write(Object value) {
+        LimitedWriter writer = new LimitedWriter(maxBodySize);
+        try (JsonGenerator generator = new MaskingJsonGenerator(jsonFactory.createGenerator(writer), maskedFields)) {
+            objectMapper.writeValue(generator, value);
+        } catch (IOException e) {
+            return writer.isExceeded() ? writer + TRUNCATED_SUFFIX : "Serialization failed";
+        }
+        return writer.toString();
+    }
+
+    // 원본 JSON을 토큰 단위로 다시 쓰면서 가림 (JSON이 아니면 내용을 남기지 않음)
+    public String writeRaw(byte[] content, Charset charset) {
+        LimitedWriter writer = new LimitedWriter(maxBodySize);
+        try (
+                JsonParser parser = jsonFactory.createParser(new String(content, charset));
+                JsonGenerator generator = new MaskingJsonGenerator(jsonFactory.createGenerator(writer), maskedFields)
+        ) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        } catch (IOException e) {
+            return writer.isExceeded()
+                    ? writer + TRUNCATED_SUFFIX
+                    : "Non-JSON body (" + content.length + " bytes)";
+        }
+        return writer.toString();
+    }
+
+    // 민감한 필드 이름 바로 다음에 오는 단일 값을 가림
+    private static class MaskingJsonGenerator extends JsonGeneratorDelegate {
+
+        private final Set<String> maskedFields;
+        private boolean maskNextValue;
+
+        MaskingJsonGenerator(JsonGenerator delegate, Set<String> maskedFields) {
+            // copyCurrentEvent도 이 클래스의 write 메서드를 거치도록 위임하지 않음
+            super(delegate, false);
+            this.maskedFields = maskedFields;
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            maskNextValue = maskedFields.contains(name.toLowerCase(Locale.ROOT));
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            maskNextValue = maskedFields.contains(name.getValue().toLowerCase(Locale.ROOT));
+            super.writeFieldName(name);
+        }
+
+        private boolean writeMaskIfNeeded() throws IOException {
+            if (!maskNextValue) {
+                return false;
+            }
+            maskNextValue = false;
+            delegate.writeString(MASK);
+            return true;
+        }
+
+        @Override
+        public void writeString(String text) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeString(text);
+            }
+        }
+
+        @Override
+        public void writeString(char[] text, int offset, int len) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeString(text, offset, len);
+            }
+        }
+
+        @Override
+        public void writeString(SerializableString text) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeString(text);
+            }
+        }
+
+        @Override
+        public void writeNumber(int value) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeNumber(value);
+            }
+        }
+
+        @Override
+        public void writeNumber(long value) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeNumber(value);
+            }
+        }
+
+        @Override
+        public void writeNumber(double value) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeNumber(value);
+            }
+        }
+
+        @Override
+        public void writeNumber(BigInteger value) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeNumber(value);
+            }
+        }
+
+        @Override
+        public void writeNumber(BigDecimal value) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeNumber(value);
+            }
+        }
+
+        @Override
+        public void writeNumber(String encodedValue) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeNumber(encodedValue);
+            }
+        }
+
+        @Override
+        public void writeBoolean(boolean state) throws IOException {
+            if (!writeMaskIfNeeded()) {
+                super.writeBoolean(state);
+            }
+        }
+    }
+
+    // 최대 길이를 넘으면 예외를 던져 직렬화를 중단시키는 Writer
+    private static class LimitedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int maxSize;
+        private boolean exceeded;
+
+        LimitedWriter(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int writable = Math.min(length, maxSize - buffer.length());
+            buffer.append(chars, offset, writable);
+
+            if (writable < length) {
+                exceeded = true;
+                throw new IOException("Log body exceeds " + maxSize + " characters");
+            }
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
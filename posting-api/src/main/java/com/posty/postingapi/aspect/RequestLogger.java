@@ -1,7 +1,5 @@
 package com.posty.postingapi.aspect;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.posty.postingapi.properties.ApiProperties;
 import io.micrometer.common.util.StringUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +14,8 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,15 +27,18 @@ public class RequestLogger {
 
     private final ApiProperties apiProperties;
 
-    private final ObjectMapper objectMapper;
+    private final AccessLogSampler accessLogSampler;
+    private final LogBodyWriter logBodyWriter;
 
     public RequestLogger(
             ApiProperties apiProperties,
-            ObjectMapper objectMapper
+            AccessLogSampler accessLogSampler,
+            LogBodyWriter logBodyWriter
     ) {
         this.apiProperties = apiProperties;
 
-        this.objectMapper = objectMapper;
+        this.accessLogSampler = accessLogSampler;
+        this.logBodyWriter = logBodyWriter;
     }
 
     @Pointcut("execution(* com.posty.postingapi.controller.*.*(..))")
@@ -54,6 +56,10 @@ public class RequestLogger {
         String requestId = UUID.randomUUID().toString();
         servletRequest.setAttribute(apiProperties.getRequestIdName(), requestId);
 
+        if (!accessLogSampler.sample(servletRequest)) {
+            return;
+        }
+
         String body = "No body found";
 
         Object bodyObject = Arrays.stream(joinPoint.getArgs())
@@ -62,18 +68,15 @@ public class RequestLogger {
                 .orElse(null);
 
         if (bodyObject != null) {
-            try {
-                body = objectMapper.writeValueAsString(bodyObject);
-            } catch (JsonProcessingException e) {
-                body = "Serialization failed";
-            }
+            body = logBodyWriter.write(bodyObject);
         } else if (servletRequest instanceof ContentCachingRequestWrapper wrapper) {
             byte[] content = wrapper.getContentAsByteArray();
             if (content.length > 0) {
                 try {
-                    String rawBody = new String(content, wrapper.getCharacterEncoding());
-                    body = maskSensitiveRawString(rawBody);
-                } catch (UnsupportedEncodingException e) {
+                    String encoding = wrapper.getCharacterEncoding();
+                    Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+                    body = logBodyWriter.writeRaw(content, charset);
+                } catch (IllegalArgumentException e) {
                     body = "Failed to decode request body";
                     log.warn("{}", body, e);
                 }
@@ -98,10 +101,6 @@ public class RequestLogger {
         return packageName.startsWith("com.posty.postingapi.dto");
     }
 
-    private String maskSensitiveRawString(String raw) {
-        return raw.replaceAll("(\"password\"\\s*:\\s*)\"[^\"]+\"", "$1\"****\"");
-    }
-
     private String getRequestUrl(HttpServletRequest request) {
         return ServletUriComponentsBuilder.fromRequest(request)
                 .replaceQuery(null)
@@ -1,7 +1,5 @@
 package com.posty.postingapi.aspect;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.posty.postingapi.properties.ApiProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -23,12 +21,14 @@ public class ResponseLogger implements ResponseBodyAdvice<Object> {
 
     private final ApiProperties apiProperties;
 
-    private final ObjectMapper objectMapper;
+    private final AccessLogSampler accessLogSampler;
+    private final LogBodyWriter logBodyWriter;
 
-    public ResponseLogger(ApiProperties apiProperties, ObjectMapper objectMapper) {
+    public ResponseLogger(ApiProperties apiProperties, AccessLogSampler accessLogSampler, LogBodyWriter logBodyWriter) {
         this.apiProperties = apiProperties;
 
-        this.objectMapper = objectMapper;
+        this.accessLogSampler = accessLogSampler;
+        this.logBodyWriter = logBodyWriter;
     }
 
     @Override
@@ -46,26 +46,24 @@ public class ResponseLogger implements ResponseBodyAdvice<Object> {
             return body;
         }
 
-        String statusAsString;
+        // 샘플링에서 빠진 요청도 오류 응답은 기록
+        Integer statusCode = null;
         if (response instanceof ServletServerHttpResponse servletResponse) {
-            int statusCode = servletResponse.getServletResponse().getStatus();
+            statusCode = servletResponse.getServletResponse().getStatus();
+        }
+        if (!accessLogSampler.isSampled(servletRequest) && (statusCode == null || statusCode < 400)) {
+            return body;
+        }
+
+        String statusAsString;
+        if (statusCode != null) {
             HttpStatus status = HttpStatus.resolve(statusCode);
             statusAsString = status == null ? String.valueOf(statusCode) : String.valueOf(status);
         } else {
             statusAsString = "HTTP status unavailable (non-ServletServerHttpResponse)";
         }
 
-        String bodyAsString;
-        if (body == null) {
-            bodyAsString = "No body found";
-        } else {
-            try {
-                bodyAsString = objectMapper.writeValueAsString(body);
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to serialize response body", e);
-                bodyAsString = String.valueOf(body);
-            }
-        }
+        String bodyAsString = body == null ? "No body found" : logBodyWriter.write(body);
 
         log.info(
                 "\n\n[Response Info]\nRequest ID: {}\nResponse Status: {}\nResponse Body: {}\n",
@@ -0,0 +1,84 @@
+package com.posty.postingapi.common.pagination;
+
+import com.posty.postingapi.error.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지 조회에서 마지막으로 조회한 행의 정렬 키를 담는 커서.
+ *
+ * <p>id만으로 정렬하는 목록은 {@link #ofId(long)}, (정렬 값, id) 복합 키로 정렬하는 목록은 {@link #of(long, long)}를 사용한다.
+ * 클라이언트에는 내부 구조가 드러나지 않도록 URL-safe Base64 문자열로 인코딩하여 전달한다.
+ */
+public record KeysetCursor(Long key, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static KeysetCursor ofId(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(long key, long id) {
+        return new KeysetCursor(key, id);
+    }
+
+    // 커서가 비어 있으면 첫 페이지 조회로 간주하여 null 반환
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+
+            return switch (parts.length) {
+                case 1 -> ofId(Long.parseLong(parts[0]));
+                case 2 -> of(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+                default -> throw new InvalidCursorException();
+            };
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    // id 단일 키 커서를 해석하여 마지막 id 반환 (첫 페이지면 null)
+    public static Long decodeId(String cursor) {
+        KeysetCursor decoded = decode(cursor);
+        if (decoded == null) {
+            return null;
+        }
+
+        if (decoded.hasKey()) {
+            throw new InvalidCursorException();
+        }
+        return decoded.id();
+    }
+
+    // (정렬 값, id) 복합 키 커서를 해석 (첫 페이지면 null)
+    public static KeysetCursor decodeKeyed(String cursor) {
+        KeysetCursor decoded = decode(cursor);
+        if (decoded != null && !decoded.hasKey()) {
+            throw new InvalidCursorException();
+        }
+        return decoded;
+    }
+
+    public String encode() {
+        String raw = key == null ? String.valueOf(id) : key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // int 정렬 값(블록 순서 등)으로 쓰는 키 (int 범위를 벗어나면 잘못된 커서)
+    public int intKey() {
+        if (key == null || key < Integer.MIN_VALUE || key > Integer.MAX_VALUE) {
+            throw new InvalidCursorException();
+        }
+        return key.intValue();
+    }
+
+    public boolean hasKey() {
+        return key != null;
+    }
+}
@@ -1,28 +1,81 @@
 package com.posty.postingapi.config;
 
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.properties.AccessLogProperties;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * 요청 로그에 원본 본문을 남길 수 있도록 요청 본문을 캐싱
+ * <p>
+ * 설정된 경로와 Content-Type에 해당하고 로그 샘플링에 포함된 요청만 감싸며, 요청마다 maxSize까지만 메모리에 보관한다.
+ * <br>
+ * 응답 로그는 본문 객체로 남기므로 응답은 감싸지 않고 그대로 스트리밍함
+ */
 @Component
 @Order(1)
 public class CachingRequestFilter implements Filter {
 
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final AccessLogSampler accessLogSampler;
+
+    private final List<String> paths;
+    private final List<MediaType> contentTypes;
+    private final int maxSize;
+
+    public CachingRequestFilter(AccessLogSampler accessLogSampler, AccessLogProperties accessLogProperties) {
+        this.accessLogSampler = accessLogSampler;
+
+        AccessLogProperties.BodyCachingProperties properties = accessLogProperties.getBodyCaching();
+        paths = List.copyOf(properties.getPaths());
+        contentTypes = properties.getContentTypes().stream()
+                .map(MediaType::parseMediaType)
+                .toList();
+        maxSize = properties.getMaxSize();
+    }
+
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
-        ContentCachingRequestWrapper cachedRequest = new ContentCachingRequestWrapper((HttpServletRequest) servletRequest);
-        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper((HttpServletResponse) servletResponse);
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+
+        if (needsCaching(request)) {
+            request = new ContentCachingRequestWrapper(request, maxSize);
+        }
+
+        filterChain.doFilter(request, servletResponse);
+    }
+
+    // 샘플링은 요청마다 한 번만 결정되므로 가장 마지막에 확인
+    private boolean needsCaching(HttpServletRequest request) {
+        if (maxSize <= 0 || !isCachedContentType(request.getContentType())) {
+            return false;
+        }
+        if (!paths.isEmpty() && paths.stream().noneMatch(path -> pathMatcher.match(path, request.getRequestURI()))) {
+            return false;
+        }
+        return accessLogSampler.sample(request);
+    }
+
+    private boolean isCachedContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
 
         try {
-            filterChain.doFilter(cachedRequest, cachedResponse);
-        } finally {
-            cachedResponse.copyBodyToResponse();
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return contentTypes.stream().anyMatch(type -> type.includes(mediaType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
         }
     }
 }
@@ -0,0 +1,62 @@
+package com.posty.postingapi.config;
+
+import com.posty.postingapi.properties.MediaProperties;
+import jakarta.jms.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQConnectionFactoryCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+
+@Configuration
+public class JmsConfig {
+
+    private final MediaProperties.ListenerProperties listenerProperties;
+    private final boolean virtualThreads;
+
+    public JmsConfig(MediaProperties mediaProperties, Environment environment) {
+        listenerProperties = mediaProperties.getListener();
+        virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    @Bean
+    public ActiveMQConnectionFactoryCustomizer prefetchCustomizer() {
+        return factory -> factory.getPrefetchPolicy().setQueuePrefetch(listenerProperties.getPrefetch());
+    }
+
+    // 배치 소비 모드에서는 메시지 단위 업로드 리스너를 시작하지 않음
+    @Bean
+    public DefaultJmsListenerContainerFactory mediaUploadListenerContainerFactory(
+            DefaultJmsListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory
+    ) {
+        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrency(listenerProperties.getUploadConcurrency());
+        factory.setAutoStartup(!listenerProperties.getBatch().isEnabled());
+        applyVirtualThreads(factory, "jms-media-upload-");
+        return factory;
+    }
+
+    @Bean
+    public DefaultJmsListenerContainerFactory mediaDeleteListenerContainerFactory(
+            DefaultJmsListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory
+    ) {
+        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrency(listenerProperties.getDeleteConcurrency());
+        applyVirtualThreads(factory, "jms-media-delete-");
+        return factory;
+    }
+
+    // 스프링 부트는 리스너 컨테이너의 소비자 스레드를 가상 스레드로 바꾸지 않으므로 직접 지정 (소비자 수는 concurrency 그대로)
+    private void applyVirtualThreads(DefaultJmsListenerContainerFactory factory, String threadNamePrefix) {
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor(threadNamePrefix));
+        }
+    }
+}
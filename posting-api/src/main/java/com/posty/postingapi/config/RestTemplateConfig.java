@@ -1,14 +1,74 @@
 package com.posty.postingapi.config;
 
+import com.posty.postingapi.properties.MediaProperties;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+    private static final TimeValue IDLE_CONNECTION_EVICTION = TimeValue.ofSeconds(30);
+
+    private final MediaProperties.FileApiHttpProperties httpProperties;
+    private final boolean virtualThreads;
+
+    public RestTemplateConfig(MediaProperties mediaProperties, Environment environment) {
+        httpProperties = mediaProperties.getFileApiHttp();
+        virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    // 연결을 재사용하도록 풀링 클라이언트 사용 (RestTemplateBuilder로 애플리케이션 ObjectMapper 기반 메시지 변환기 적용)
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpProperties.getMaxConnections())
+                .setMaxConnPerRoute(httpProperties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(httpProperties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(httpProperties.getReadTimeout()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(httpProperties.getConnectionRequestTimeout()))
+                        .build())
+                .evictIdleConnections(IDLE_CONNECTION_EVICTION)
+                .evictExpiredConnections()
+                .build();
+
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    // 비동기 파일 API 요청용 (동시 요청 수가 라우트당 연결 수를 넘지 않도록 맞춤)
+    // 가상 스레드 모드에서도 풀 크기는 동시 요청 수 제한으로 유지하고, 작업 스레드만 가상 스레드로 만듦
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ThreadPoolTaskExecutor fileApiExecutor() {
+        int poolSize = httpProperties.getMaxConnectionsPerRoute();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("file-api-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
     }
 }
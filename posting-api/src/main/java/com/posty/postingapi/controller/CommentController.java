@@ -5,12 +5,16 @@ import com.posty.postingapi.config.OpenApiConfig;
 import com.posty.postingapi.dto.comment.CommentCreateRequest;
 import com.posty.postingapi.dto.comment.CommentDetailResponse;
 import com.posty.postingapi.dto.comment.CommentUpdateRequest;
+import com.posty.postingapi.dto.common.CursorPage;
 import com.posty.postingapi.error.CommonErrorResponses;
 import com.posty.postingapi.service.application.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -95,4 +99,28 @@ public class CommentController {
     ) {
         return commentService.getCommentsByAccount(accountId, pageable);
     }
+
+    @Operation(summary = "포스트의 댓글 목록 스크롤 조회", description = "해당 포스트의 댓글들을 최신순으로 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/post/{postId}/scroll")
+    public CursorPage<CommentDetailResponse> scrollCommentsByPost(
+            @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 번에 조회할 개수") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @Parameter(description = "전체 개수 포함 여부 (추가 count 쿼리 발생)") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        return commentService.scrollCommentsByPost(postId, cursor, size, withTotal);
+    }
+
+    @Operation(summary = "계정의 댓글 목록 스크롤 조회", description = "해당 계정이 작성한 댓글들을 최신순으로 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/account/{accountId}/scroll")
+    public CursorPage<CommentDetailResponse> scrollCommentsByAccount(
+            @PathVariable Long accountId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 번에 조회할 개수") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @Parameter(description = "전체 개수 포함 여부 (추가 count 쿼리 발생)") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        return commentService.scrollCommentsByAccount(accountId, cursor, size, withTotal);
+    }
 }
@@ -0,0 +1,43 @@
+package com.posty.postingapi.controller;
+
+import com.posty.postingapi.aspect.ResponseLogging;
+import com.posty.postingapi.error.CommonErrorResponses;
+import com.posty.postingapi.infrastructure.file.UploadJobCallbackVerifier;
+import com.posty.postingapi.service.application.MediaUploadJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+        name = "미디어 업로드 작업 콜백 API",
+        description = "파일 API가 업로드 작업 결과를 보내는 API" +
+                " (API 키 대신 ***" + UploadJobCallbackVerifier.SIGNATURE_HEADER + "*** 서명 필요)"
+)
+@CommonErrorResponses
+@ResponseLogging
+@RestController
+@RequestMapping("/media/upload-jobs")
+public class MediaUploadJobController {
+
+    private final MediaUploadJobService mediaUploadJobService;
+
+    public MediaUploadJobController(MediaUploadJobService mediaUploadJobService) {
+        this.mediaUploadJobService = mediaUploadJobService;
+    }
+
+    // 서명은 받은 본문 그대로 확인해야 하므로 문자열로 받음
+    @Operation(summary = "업로드 작업 결과 수신", description = "파일 API의 업로드 작업 결과를 미디어에 반영합니다.")
+    @ApiResponse(responseCode = "204", description = "No Content")
+    @PostMapping("/{mediaId}")
+    public ResponseEntity<Void> receiveUploadJobResult(
+            @PathVariable Long mediaId,
+            @RequestHeader(name = UploadJobCallbackVerifier.TIMESTAMP_HEADER, required = false) String timestamp,
+            @RequestHeader(name = UploadJobCallbackVerifier.SIGNATURE_HEADER, required = false) String signature,
+            @RequestBody String body
+    ) {
+        mediaUploadJobService.handleCallback(mediaId, timestamp, signature, body);
+        return ResponseEntity.noContent().build();
+    }
+}
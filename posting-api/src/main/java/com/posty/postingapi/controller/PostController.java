@@ -2,6 +2,8 @@ package com.posty.postingapi.controller;
 
 import com.posty.postingapi.aspect.ResponseLogging;
 import com.posty.postingapi.config.OpenApiConfig;
+import com.posty.postingapi.dto.common.CursorPage;
+import com.posty.postingapi.dto.post.PostBlockResponse;
 import com.posty.postingapi.dto.post.PostCreateRequest;
 import com.posty.postingapi.dto.post.PostDetailResponse;
 import com.posty.postingapi.dto.post.PostSummary;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -50,11 +53,23 @@ public class PostController {
     public PostDetailResponse getPost(
             @PathVariable Long postId,
             @Parameter(description = "포스트 내 블록 목록의 페이지") @RequestParam(required = false, defaultValue = "0") @Min(0) int page,
-            @Parameter(description = "포스트 내 블록 목록의 한 페이지 크기") @RequestParam(required = false, defaultValue = "10") @Min(1) int size
+            @Parameter(description = "포스트 내 블록 목록의 한 페이지 크기") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size
     ) {
         return postService.getPostDetail(postId, page, size);
     }
 
+    @Operation(summary = "포스트 블록 목록 조회", description = "포스트의 블록들을 순서대로 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/{postId}/blocks")
+    public CursorPage<PostBlockResponse> getPostBlocks(
+            @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 번에 조회할 개수") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @Parameter(description = "전체 개수 포함 여부 (추가 count 쿼리 발생)") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        return postService.getPostBlocks(postId, cursor, size, withTotal);
+    }
+
     @Operation(summary = "포스트 생성", description = "포스트를 생성합니다.")
     @ApiResponse(responseCode = "201", description = "Created")
     @PostMapping
@@ -92,4 +107,16 @@ public class PostController {
     ) {
         return postService.getPostsByWriter(accountId, pageable);
     }
+
+    @Operation(summary = "작가의 포스트 목록 스크롤 조회", description = "해당 계정이 작가인 포스트들을 최신순으로 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/writer/{accountId}/scroll")
+    public CursorPage<PostSummary> scrollPostsByWriter(
+            @PathVariable Long accountId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 번에 조회할 개수") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @Parameter(description = "전체 개수 포함 여부 (추가 count 쿼리 발생)") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        return postService.scrollPostsByWriter(accountId, cursor, size, withTotal);
+    }
 }
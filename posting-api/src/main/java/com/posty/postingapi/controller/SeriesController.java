@@ -2,6 +2,8 @@ package com.posty.postingapi.controller;
 
 import com.posty.postingapi.aspect.ResponseLogging;
 import com.posty.postingapi.config.OpenApiConfig;
+import com.posty.postingapi.dto.common.CursorPage;
+import com.posty.postingapi.dto.post.PostSummary;
 import com.posty.postingapi.dto.series.SeriesCreateRequest;
 import com.posty.postingapi.dto.series.SeriesDetailResponse;
 import com.posty.postingapi.dto.series.SeriesSummary;
@@ -9,9 +11,12 @@ import com.posty.postingapi.dto.series.SeriesUpdateRequest;
 import com.posty.postingapi.error.CommonErrorResponses;
 import com.posty.postingapi.service.application.SeriesService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -90,4 +95,28 @@ public class SeriesController {
     ) {
         return seriesService.getSeriesByManager(accountId, pageable);
     }
+
+    @Operation(summary = "시리즈의 포스트 목록 조회", description = "시리즈에 속한 포스트들을 최신순으로 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/{seriesId}/posts")
+    public CursorPage<PostSummary> getSeriesPosts(
+            @PathVariable Long seriesId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 번에 조회할 개수") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @Parameter(description = "전체 개수 포함 여부 (추가 count 쿼리 발생)") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        return seriesService.getSeriesPosts(seriesId, cursor, size, withTotal);
+    }
+
+    @Operation(summary = "계정이 관리하는 시리즈 목록 스크롤 조회", description = "해당 계정이 관리 중인 시리즈들을 최신순으로 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @GetMapping("/manager/{accountId}/scroll")
+    public CursorPage<SeriesSummary> scrollSeriesByManager(
+            @PathVariable Long accountId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "한 번에 조회할 개수") @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int size,
+            @Parameter(description = "전체 개수 포함 여부 (추가 count 쿼리 발생)") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        return seriesService.scrollSeriesByManager(accountId, cursor, size, withTotal);
+    }
 }
@@ -10,6 +10,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
     Page<Comment> findAllByPostId(Long postId, Pageable pageable);
     Page<Comment> findAllByWriterId(Long accountId, Pageable pageable);
 
+    long countByPostId(Long postId);
+    long countByWriterId(Long accountId);
+
     @Transactional
     long deleteAllByPostId(Long postId);
 }
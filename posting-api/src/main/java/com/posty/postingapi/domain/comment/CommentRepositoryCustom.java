@@ -1,6 +1,10 @@
 package com.posty.postingapi.domain.comment;
 
+import java.util.List;
+
 public interface CommentRepositoryCustom {
 
     long deleteAllBySeriesId(Long seriesId);
+    List<Comment> findAllByPostIdBefore(Long postId, Long lastId, int limit);
+    List<Comment> findAllByWriterIdBefore(Long accountId, Long lastId, int limit);
 }
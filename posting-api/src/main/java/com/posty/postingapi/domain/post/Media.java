@@ -48,18 +48,35 @@ public class Media {
 
     private LocalDateTime lastDeleteAttemptAt;
 
+    // 파일 API에 요청한 업로드 작업 (결과를 받기 전까지만 값이 있음)
+    private String uploadJobId;
+
+    private LocalDateTime uploadJobSubmittedAt;
+
     public void uploaded(String storedUrl, String storedFilename, LocalDateTime lastProcessedAt) {
         status = MediaStatus.UPLOADED;
         this.storedUrl = storedUrl;
         this.storedFilename = storedFilename;
         uploadAttemptCount += 1;
         lastUploadAttemptAt = lastProcessedAt;
+        clearUploadJob();
     }
 
     public void uploadFailed(LocalDateTime lastProcessedAt) {
         status = MediaStatus.UPLOAD_FAILED;
         uploadAttemptCount += 1;
         lastUploadAttemptAt = lastProcessedAt;
+        clearUploadJob();
+    }
+
+    public void uploadJobSubmitted(String uploadJobId, LocalDateTime submittedAt) {
+        this.uploadJobId = uploadJobId;
+        uploadJobSubmittedAt = submittedAt;
+    }
+
+    private void clearUploadJob() {
+        uploadJobId = null;
+        uploadJobSubmittedAt = null;
     }
 
     public void waitingUpload() {
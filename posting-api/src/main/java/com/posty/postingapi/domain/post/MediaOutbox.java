@@ -0,0 +1,41 @@
+package com.posty.postingapi.domain.post;
+
+import com.posty.postingapi.domain.post.event.MediaChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 미디어 변경과 같은 트랜잭션에 기록되고, 릴레이가 메시지 브로커로 전송한 뒤 삭제하는 발행 대기 메시지
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class MediaOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long mediaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MediaChangedEvent.MediaChangeType changeType;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static MediaOutbox from(MediaChangedEvent event) {
+        return MediaOutbox.builder()
+                .mediaId(event.mediaId())
+                .changeType(event.changeType())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.posty.postingapi.domain.post;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface MediaOutboxRepository extends JpaRepository<MediaOutbox, Long> {
+
+    // 여러 인스턴스가 동시에 릴레이해도 같은 메시지를 가져가지 않도록 다른 트랜잭션이 잠근 행은 건너뜀 (-2: SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<MediaOutbox> findAllByOrderByIdAsc(Pageable pageable);
+}
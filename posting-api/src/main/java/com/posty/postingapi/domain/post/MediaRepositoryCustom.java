@@ -1,6 +1,8 @@
 package com.posty.postingapi.domain.post;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface MediaRepositoryCustom {
 
@@ -8,4 +10,7 @@ public interface MediaRepositoryCustom {
     List<Media> findMediaWithDeletionFailures(int maxDeletionAttemptCount);
     List<Media> findMediaBySeriesId(long seriesId);
     List<Media> findMediaByPostId(long postId);
+    Optional<Post> findPostByMediaId(long mediaId);
+    Optional<Media> findUploadedMediaByOriginUrl(MediaType mediaType, String originUrl, long excludedMediaId);
+    List<Media> findMediaWithUploadJobsSubmittedBefore(LocalDateTime submittedBefore, int limit);
 }
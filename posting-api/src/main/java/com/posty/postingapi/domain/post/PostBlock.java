@@ -29,7 +29,7 @@ public class PostBlock {
     private Post post;
 
     // IMPORTANT: 필드명 변경 시, SORT를 반드시 함께 업데이트해야 합니다.
-    // CAUTION: 변경 누락 시 PostBlockRepository.findPageByPostId에서 오류가 발생할 수 있습니다.
+    // CAUTION: 변경 누락 시 PostBlockRepositoryImpl.findRowsByPostId에서 오류가 발생할 수 있습니다.
     // LINK: PostBlock.SORT
     @Column(nullable = false)
     private Integer orderNo;
@@ -8,4 +8,6 @@ import java.util.List;
 public interface PostBlockRepositoryCustom {
     List<Long> findDistinctWriterIdsBySeriesId(Long seriesId);
     List<Long> findDistinctWriterIdsByPostId(Long postId);
+    Page<PostBlockRow> findRowsByPostId(Long postId, Pageable pageable);
+    List<PostBlockRow> findRowsByPostIdAfter(Long postId, Integer lastOrderNo, Long lastId, int limit);
 }
@@ -0,0 +1,19 @@
+package com.posty.postingapi.domain.post;
+
+import java.time.LocalDateTime;
+
+// 포스트 블록 조회용 평탄화 결과 (작성자, 미디어를 한 번의 쿼리로 함께 조회)
+public record PostBlockRow(
+        Long id,
+        Integer orderNo,
+        Long writerId,
+        String writerName,
+        ContentType contentType,
+        String textContent,
+        MediaType mediaType,
+        String storedUrl,
+        MediaStatus mediaStatus,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -9,4 +9,6 @@ import org.springframework.stereotype.Repository;
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     Page<Post> findAllBySeriesId(Long seriesId, Pageable pageable);
+
+    long countBySeriesId(Long seriesId);
 }
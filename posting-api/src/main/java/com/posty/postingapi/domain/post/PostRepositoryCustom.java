@@ -3,7 +3,12 @@ package com.posty.postingapi.domain.post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface PostRepositoryCustom {
 
     Page<Post> findAllByWriterId(Long writerId, Pageable pageable);
+    List<Post> findAllBySeriesIdBefore(Long seriesId, Long lastId, int limit);
+    List<Post> findAllByWriterIdBefore(Long writerId, Long lastId, int limit);
+    long countByWriterId(Long writerId);
 }
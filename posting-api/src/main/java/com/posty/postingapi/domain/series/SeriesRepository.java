@@ -7,4 +7,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface SeriesRepository extends JpaRepository<Series, Long>, SeriesRepositoryCustom {
 
     Page<Series> findByManagersId(Long accountId, Pageable pageable);
+
+    long countByManagersId(Long accountId);
 }
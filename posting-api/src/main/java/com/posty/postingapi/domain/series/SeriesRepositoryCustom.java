@@ -1,4 +1,8 @@
 package com.posty.postingapi.domain.series;
 
+import java.util.List;
+
 public interface SeriesRepositoryCustom {
+
+    List<Series> findAllByManagerIdBefore(Long accountId, Long lastId, int limit);
 }
@@ -0,0 +1,66 @@
+package com.posty.postingapi.dto.common;
+
+import com.posty.postingapi.common.pagination.KeysetCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class CursorPage<T> {
+
+    // 한 번에 조회할 수 있는 최대 개수 (페이지 조회의 spring.data.web.pageable.max-page-size와 같은 값)
+    public static final int MAX_SIZE = 2000;
+
+    private List<T> content;
+
+    @Schema(description = "요청한 페이지 크기")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 (다음 페이지가 없으면 null)")
+    private String nextCursor;
+
+    @Schema(description = "전체 개수 (withTotal=true로 요청한 경우에만 포함)")
+    private Long totalElements;
+
+    /**
+     * 페이지 크기보다 1개 더 조회한 결과로 다음 페이지 존재 여부를 판단하여 커서 페이지를 만든다.
+     *
+     * @param fetched 최대 size + 1개까지 조회한 결과
+     * @param cursorOf 마지막 행으로 다음 커서를 만드는 함수
+     * @param mapper 행을 응답 객체로 변환하는 함수
+     * @param totalElements 전체 개수 (조회하지 않았으면 null)
+     */
+    public static <E, T> CursorPage<T> of(
+            List<E> fetched,
+            int size,
+            Function<E, KeysetCursor> cursorOf,
+            Function<E, T> mapper,
+            Long totalElements
+    ) {
+        boolean hasNext = fetched.size() > size;
+        List<E> rows = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(
+                rows.stream().map(mapper).toList(),
+                size,
+                hasNext,
+                nextCursor,
+                totalElements
+        );
+    }
+}
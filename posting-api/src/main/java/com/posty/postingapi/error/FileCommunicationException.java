@@ -1,21 +1,33 @@
 package com.posty.postingapi.error;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 
 @Slf4j
+@Getter
 public class FileCommunicationException extends RuntimeException {
 
+    private final HttpStatusCode status; // 응답을 받지 못했으면 null
+
     public FileCommunicationException(HttpMethod method, Throwable cause) {
         super(String.format("[%s] File API error", method.name()), cause);
+        status = null;
     }
 
     public FileCommunicationException(HttpMethod method, HttpStatusCode status, String body) {
         super(String.format("[%s] File API error: [%s] %s", method.name(), status, body));
+        this.status = status;
     }
 
     public FileCommunicationException(HttpMethod method, HttpStatusCode status, String body, Throwable cause) {
         super(String.format("[%s] File API error: [%s] %s", method.name(), status, body), cause);
+        this.status = status;
+    }
+
+    public boolean isNotFound() {
+        return status != null && status.value() == HttpStatus.NOT_FOUND.value();
     }
 }
@@ -67,6 +67,7 @@ public class GlobalExceptionHandler {
             DuplicateAccountDeletionException.class,
             AlreadyProcessedException.class,
             TooManyRequestsException.class,
+            InvalidCursorException.class,
     })
     public ResponseEntity<ErrorResponse> handleMessageCustomException(Exception e, HttpServletRequest request) {
         HttpStatus status = e.getClass().getAnnotation(ResponseStatus.class).value();
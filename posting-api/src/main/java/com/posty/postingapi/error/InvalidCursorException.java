@@ -0,0 +1,14 @@
+package com.posty.postingapi.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Invalid cursor. Please use the cursor returned by the previous page.";
+
+    public InvalidCursorException() {
+        super(DEFAULT_MESSAGE);
+    }
+}
@@ -0,0 +1,136 @@
+package com.posty.postingapi.infrastructure.cache;
+
+import com.posty.postingapi.domain.post.ContentType;
+import com.posty.postingapi.domain.post.MediaStatus;
+import com.posty.postingapi.domain.post.MediaType;
+import com.posty.postingapi.domain.post.PostBlock;
+import com.posty.postingapi.dto.account.AccountSummary;
+import com.posty.postingapi.dto.post.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Redis에 저장하기 위한 PostDetailResponse 스냅샷 (Page, 추상 ContentResponse 등 역직렬화가 어려운 타입을 평탄화)
+// 계정 이름은 바뀔 수 있으므로 작성자 ID만 저장하고, 응답을 만들 때 계정 이름 캐시에서 조회
+public record CachedPostDetail(
+        Long id,
+        String title,
+        List<Long> writerIds,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        int page,
+        int size,
+        long totalBlocks,
+        List<Block> blocks
+) {
+
+    public record Block(
+            Long id,
+            Integer order,
+            Long writerId,
+            ContentType contentType,
+            String text,
+            MediaType mediaType,
+            String storedMediaUrl,
+            MediaStatus mediaStatus,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    public static CachedPostDetail from(PostDetailResponse response, List<Long> writerIds) {
+        Page<PostBlockResponse> blockPage = response.getBlocks();
+
+        List<Block> blocks = blockPage.getContent().stream()
+                .map(CachedPostDetail::toBlock)
+                .toList();
+
+        return new CachedPostDetail(
+                response.getId(),
+                response.getTitle(),
+                writerIds,
+                response.getCreatedAt(),
+                response.getUpdatedAt(),
+                blockPage.getNumber(),
+                blockPage.getSize(),
+                blockPage.getTotalElements(),
+                blocks
+        );
+    }
+
+    private static Block toBlock(PostBlockResponse block) {
+        AccountSummary writer = block.getWriter();
+        ContentResponse content = block.getContent();
+
+        String text = null;
+        MediaType mediaType = null;
+        String storedMediaUrl = null;
+        MediaStatus mediaStatus = null;
+
+        if (content instanceof TextContentResponse textContent) {
+            text = textContent.getText();
+        } else if (content instanceof MediaContentResponse mediaContent) {
+            mediaType = mediaContent.getMediaType();
+            storedMediaUrl = mediaContent.getStoredMediaUrl();
+            mediaStatus = mediaContent.getStatus();
+        }
+
+        return new Block(
+                block.getId(),
+                block.getOrder(),
+                writer.getId(),
+                content.getType(),
+                text,
+                mediaType,
+                storedMediaUrl,
+                mediaStatus,
+                block.getCreatedAt(),
+                block.getUpdatedAt()
+        );
+    }
+
+    // 포스트와 블록의 작성자 ID를 모두 모음 (이름을 한 번에 조회하기 위해 사용)
+    public Set<Long> accountIds() {
+        Set<Long> accountIds = new HashSet<>(writerIds);
+        blocks.forEach(block -> accountIds.add(block.writerId()));
+        return accountIds;
+    }
+
+    public PostDetailResponse toResponse(Map<Long, String> accountNames) {
+        List<String> writers = writerIds.stream()
+                .map(accountNames::get)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+
+        List<PostBlockResponse> blockResponses = blocks.stream()
+                .map(block -> toPostBlockResponse(block, accountNames.get(block.writerId())))
+                .toList();
+
+        Page<PostBlockResponse> blockPage = new PageImpl<>(
+                blockResponses,
+                PageRequest.of(page, size, PostBlock.SORT),
+                totalBlocks
+        );
+
+        return new PostDetailResponse(id, title, writers, createdAt, updatedAt, blockPage);
+    }
+
+    private static PostBlockResponse toPostBlockResponse(Block block, String writerName) {
+        ContentResponse content = block.contentType() == ContentType.TEXT
+                ? new TextContentResponse(block.text())
+                : new MediaContentResponse(block.mediaType(), block.storedMediaUrl(), block.mediaStatus());
+
+        return new PostBlockResponse(
+                block.id(),
+                block.order(),
+                new AccountSummary(block.writerId(), writerName),
+                content,
+                block.createdAt(),
+                block.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package com.posty.postingapi.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 자주 캐싱되는 단순 값(Long, Integer, String, Boolean, long[])을 타입 태그 1바이트 + 바이너리로 저장하는 직렬화기
+ * <p>
+ * 그 외 타입은 태그 뒤에 JSON 직렬화기의 결과를 그대로 붙여 저장한다.
+ * <br>
+ * 태그는 JSON 문서의 첫 바이트로 올 수 없는 값만 사용하므로, 태그가 없는 값은 기존 JSON 직렬화기로 저장된 값으로 보고 그대로 읽는다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte TAG_LONG = 0x01;
+    private static final byte TAG_INTEGER = 0x02;
+    private static final byte TAG_STRING = 0x03;
+    private static final byte TAG_TRUE = 0x04;
+    private static final byte TAG_FALSE = 0x05;
+    private static final byte TAG_LONG_ARRAY = 0x06;
+    private static final byte TAG_JSON = 0x10;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final RedisSerializer<Object> fallbackSerializer;
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallbackSerializer) {
+        this.fallbackSerializer = fallbackSerializer;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+
+        if (value instanceof Long longValue) {
+            return writeVarLong(TAG_LONG, longValue);
+        }
+        if (value instanceof Integer intValue) {
+            return writeVarLong(TAG_INTEGER, intValue);
+        }
+        if (value instanceof String stringValue) {
+            return prepend(TAG_STRING, stringValue.getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof Boolean booleanValue) {
+            return new byte[]{booleanValue ? TAG_TRUE : TAG_FALSE};
+        }
+        if (value instanceof long[] longArray) {
+            return writeLongArray(longArray);
+        }
+
+        return prepend(TAG_JSON, fallbackSerializer.serialize(value));
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+
+        try {
+            return switch (bytes[0]) {
+                case TAG_LONG -> readVarLong(buffer);
+                case TAG_INTEGER -> Math.toIntExact(readVarLong(buffer));
+                case TAG_STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_LONG_ARRAY -> readLongArray(buffer);
+                case TAG_JSON -> fallbackSerializer.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+                // 태그가 없으면 이전 JSON 형식으로 저장된 값
+                default -> fallbackSerializer.deserialize(bytes);
+            };
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException serializationException) {
+                throw serializationException;
+            }
+            throw new SerializationException("Could not read compact redis value", e);
+        }
+    }
+
+    // 정렬된 ID 목록이 대부분이므로 이전 값과의 차이를 저장하여 크기를 줄임
+    private byte[] writeLongArray(long[] values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 + 5 + values.length * 2);
+        out.write(TAG_LONG_ARRAY);
+        writeVarLong(out, values.length);
+
+        long previous = 0;
+        for (long value : values) {
+            writeVarLong(out, value - previous);
+            previous = value;
+        }
+        return out.toByteArray();
+    }
+
+    private long[] readLongArray(ByteBuffer buffer) {
+        int length = Math.toIntExact(readVarLong(buffer));
+        long[] values = new long[length];
+
+        long previous = 0;
+        for (int i = 0; i < length; i++) {
+            previous += readVarLong(buffer);
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private byte[] writeVarLong(byte tag, long value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(11);
+        out.write(tag);
+        writeVarLong(out, value);
+        return out.toByteArray();
+    }
+
+    // zigzag 인코딩 후 7비트씩 나누어 저장 (작은 절댓값일수록 적은 바이트 사용)
+    private void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private long readVarLong(ByteBuffer buffer) {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 64) {
+                throw new SerializationException("Malformed variable-length number");
+            }
+            b = buffer.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private byte[] prepend(byte tag, byte[] body) {
+        byte[] bytes = new byte[body.length + 1];
+        bytes[0] = tag;
+        System.arraycopy(body, 0, bytes, 1, body.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,111 @@
+package com.posty.postingapi.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.posty.postingapi.dto.post.PostDetailResponse;
+import com.posty.postingapi.properties.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 포스트 상세정보 첫 페이지를 위한 2단계 캐시
+ * <p>
+ * 1차: 인스턴스 내부의 크기/TTL 제한 캐시 (다른 인스턴스의 변경은 localTtl 이내에 반영됨)
+ * <br>
+ * 2차: Redis (변경 이벤트 커밋 후 삭제)
+ * <br>
+ * 작성자 이름은 캐싱하지 않고 응답을 만들 때마다 계정 이름 캐시에서 조회하므로, 계정 이름 변경은 바로 반영됨
+ */
+@Slf4j
+@Component
+public class PostDetailCacheManager {
+
+    private static final String DETAIL_KEY = "detail";
+
+    private final RedisManager redisManager;
+    private final WriterCacheManager writerCacheManager;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, CachedPostDetail> localCache;
+    private final Duration remoteTtl;
+
+    public PostDetailCacheManager(
+            RedisManager redisManager,
+            WriterCacheManager writerCacheManager,
+            ObjectMapper objectMapper,
+            CacheProperties cacheProperties
+    ) {
+        this.redisManager = redisManager;
+        this.writerCacheManager = writerCacheManager;
+        this.objectMapper = objectMapper;
+
+        CacheProperties.PostDetailCacheProperties properties = cacheProperties.getPostDetail();
+        localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+        remoteTtl = properties.getRemoteTtl();
+    }
+
+    private String createPostDetailKey(long postId) {
+        return redisManager.createKey("post", String.valueOf(postId), DETAIL_KEY);
+    }
+
+    // 캐시된 객체는 여러 요청에서 공유되지 않도록 조회할 때마다 새 응답 객체로 만들어 반환
+    public PostDetailResponse loadPostDetail(long postId, Supplier<PostDetailResponse> loader) {
+        CachedPostDetail cached = localCache.getIfPresent(postId);
+        if (cached != null) {
+            return toResponse(cached);
+        }
+
+        String redisKey = createPostDetailKey(postId);
+
+        cached = readRemote(redisKey);
+        if (cached == null) {
+            PostDetailResponse loaded = loader.get();
+            cached = CachedPostDetail.from(loaded, writerCacheManager.loadWriterIdsOfPosts(postId));
+            writeRemote(redisKey, cached);
+        }
+
+        localCache.put(postId, cached);
+        return toResponse(cached);
+    }
+
+    private PostDetailResponse toResponse(CachedPostDetail cached) {
+        return cached.toResponse(writerCacheManager.loadAccountNameMap(cached.accountIds()));
+    }
+
+    private CachedPostDetail readRemote(String redisKey) {
+        String json = redisManager.getValue(redisKey, String.class);
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            CachedPostDetail cached = objectMapper.readValue(json, CachedPostDetail.class);
+            // 작성자 이름을 함께 저장하던 이전 형식은 다시 불러옴
+            return cached.writerIds() == null ? null : cached;
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to deserialize cached post detail ({}), reloading", redisKey, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String redisKey, CachedPostDetail cached) {
+        try {
+            redisManager.saveValueWithTtl(redisKey, objectMapper.writeValueAsString(cached), remoteTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize post detail ({})", redisKey, e);
+        }
+    }
+
+    public void clearPostDetail(long postId) {
+        localCache.invalidate(postId);
+        redisManager.delete(createPostDetailKey(postId));
+    }
+}
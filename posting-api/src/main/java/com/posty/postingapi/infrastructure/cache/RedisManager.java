@@ -3,7 +3,16 @@ package com.posty.postingapi.infrastructure.cache;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
@@ -11,12 +20,34 @@ import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Validated
 @Component
 public class RedisManager {
 
     private static final String EMPTY_PLACEHOLDER = "__EMPTY__";
 
+    // Lua unpack은 한 번에 넘길 수 있는 값 수에 제한(LUAI_MAXCSTACK, 기본 8000)이 있으므로 나누어 RPUSH
+    static final int REPLACE_LIST_CHUNK_SIZE = 1000;
+
+    // INCR 후 최초 생성(값이 1)인 경우에만 만료 시간 설정
+    static final RedisScript<Long> INCREMENT_WITH_TTL_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('INCR', KEYS[1]) " +
+            "if value == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return value",
+            Long.class
+    );
+
+    // 기존 리스트를 지우고 새 값으로 채움 (동시에 저장해도 값이 중복으로 쌓이지 않음)
+    static final RedisScript<Long> REPLACE_LIST_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 1, #ARGV, " + REPLACE_LIST_CHUNK_SIZE + " do " +
+            "redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + " + (REPLACE_LIST_CHUNK_SIZE - 1) + ", #ARGV))) " +
+            "end " +
+            "return redis.call('LLEN', KEYS[1])",
+            Long.class
+    );
+
     protected final RedisTemplate<String, Object> redisTemplate;
 
     public RedisManager(RedisTemplate<String, Object> redisTemplate) {
@@ -42,24 +73,24 @@ public class RedisManager {
         return value == null ? null : convertToType(value, clazz);
     }
 
-    // 최초 생성 시에만 TTL(유효기간) 설정하고, 이후 increment 시 TTL 유지
+    // 최초 생성 시에만 TTL(유효기간) 설정하고, 이후 increment 시 TTL 유지 (스크립트로 한 번에 원자적으로 처리)
     public long incrementWithTtlIfAbsent(@NotBlank String key, @NotNull Duration ttl) {
-        Long value = redisTemplate.opsForValue().increment(key);
-
-        if (value != null && value == 1) {
-            redisTemplate.expire(key, ttl);
-        }
+        Long value = redisTemplate.execute(
+                INCREMENT_WITH_TTL_SCRIPT,
+                RedisSerializer.string(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(key),
+                String.valueOf(ttl.toMillis())
+        );
         return value == null ? 0L : value;
     }
 
     public void saveList(@NotBlank String key, @NotNull List<?> values) {
-        if (values.isEmpty()) {
-            redisTemplate.opsForList().rightPush(key, EMPTY_PLACEHOLDER);
-        } else {
-            @SuppressWarnings("unchecked")
-            Collection<Object> collection = (Collection<Object>) values;
-            redisTemplate.opsForList().rightPushAll(key, collection);
-        }
+        Object[] args = values.isEmpty()
+                ? new Object[]{EMPTY_PLACEHOLDER}
+                : values.toArray();
+
+        redisTemplate.execute(REPLACE_LIST_SCRIPT, List.of(key), args);
     }
 
     public <T> List<T> getList(@NotBlank String key, Class<T> clazz) {
@@ -71,6 +102,51 @@ public class RedisManager {
                     .toList();
     }
 
+    // 키가 없으면(캐시 미스) null, 빈 리스트로 저장된 경우 빈 리스트 반환 (hasKey 없이 한 번의 LRANGE로 판단)
+    public <T> List<T> getListOrNull(@NotBlank String key, Class<T> clazz) {
+        List<Object> list = redisTemplate.opsForList().range(key, 0, -1);
+        if (list == null || list.isEmpty()) {
+            return null;
+        }
+
+        return list.size() == 1 && EMPTY_PLACEHOLDER.equals(list.get(0))
+                ? List.of()
+                : list.stream()
+                    .map(object -> convertToType(object, clazz))
+                    .toList();
+    }
+
+    // ID 목록을 리스트가 아닌 하나의 값(long[])으로 저장
+    public void saveLongArray(@NotBlank String key, @NotNull long[] values) {
+        redisTemplate.opsForValue().set(key, values);
+    }
+
+    // 키가 없으면(캐시 미스) null 반환
+    public long[] getLongArrayOrNull(@NotBlank String key) {
+        Object value;
+        try {
+            value = redisTemplate.opsForValue().get(key);
+        } catch (RedisSystemException e) {
+            // 이전 형식(리스트)으로 저장된 키는 미스로 처리하고, 다음 저장 시 SET으로 덮어씀
+            log.debug("Treating legacy value of {} as cache miss", key, e);
+            return null;
+        }
+
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof long[] longArray) {
+            return longArray;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream()
+                    .mapToLong(element -> ((Number) element).longValue())
+                    .toArray();
+        }
+
+        throw new IllegalStateException("Unexpected cached value type for " + key + ": " + value.getClass().getName());
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T convertToType(Object obj, Class<T> clazz) {
         if (clazz.isInstance(obj)) {
@@ -93,7 +169,6 @@ public class RedisManager {
     }
 
     public void updateList(@NotBlank String key, @NotNull List<?> values) {
-        redisTemplate.delete(key);
         saveList(key, values);
     }
 
@@ -125,9 +200,18 @@ public class RedisManager {
             return;
         }
 
-        keyValueMap.forEach((key, value) ->
-                redisTemplate.opsForValue().set(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS)
-        );
+        // 키마다 SET을 보내지 않고 파이프라인으로 한 번에 전송
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                keyValueMap.forEach((key, value) ->
+                        redisOperations.opsForValue().set(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS)
+                );
+                return null;
+            }
+        });
     }
 
     public void delete(@NotBlank String key) {
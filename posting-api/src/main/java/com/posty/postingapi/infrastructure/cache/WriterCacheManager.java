@@ -49,11 +49,19 @@ public class WriterCacheManager {
     }
 
     private List<String> loadAccountNames(List<Long> accountIds) {
+        List<String> names = new ArrayList<>(loadAccountNameMap(accountIds).values());
+        Collections.sort(names);
+
+        return names;
+    }
+
+    // Redis에 없는 이름만 DB에서 조회하여 저장 (존재하지 않는 계정은 결과에 포함되지 않음)
+    public Map<Long, String> loadAccountNameMap(Collection<Long> accountIds) {
         if (accountIds.isEmpty()) {
-            return Collections.emptyList();
+            return Collections.emptyMap();
         }
 
-        Map<Long, String> idToKey = accountIds.stream()
+        Map<Long, String> idToKey = new LinkedHashSet<>(accountIds).stream()
                 .collect(Collectors.toMap(
                         Function.identity(),
                         this::createAccountNameKey
@@ -61,18 +69,17 @@ public class WriterCacheManager {
 
         Map<String, Object> cachedNameMap = redisManager.getValuesAsMap(new ArrayList<>(idToKey.values()));
 
-        List<String> names = new ArrayList<>(accountIds.size());
+        Map<Long, String> names = new HashMap<>(idToKey.size());
 
         List<Long> missingIds = new ArrayList<>();
 
-        for (Long accountId : accountIds) {
-            String key = idToKey.get(accountId);
-            Object value = cachedNameMap.get(key);
+        for (Map.Entry<Long, String> entry : idToKey.entrySet()) {
+            Object value = cachedNameMap.get(entry.getValue());
 
             if (value instanceof String name) {
-                names.add(name);
+                names.put(entry.getKey(), name);
             } else {
-                missingIds.add(accountId);
+                missingIds.add(entry.getKey());
             }
         }
 
@@ -84,7 +91,7 @@ public class WriterCacheManager {
             for (Account account : accounts) {
                 String name = account.getName();
 
-                names.add(name);
+                names.put(account.getId(), name);
                 missingNameMap.put(createAccountNameKey(account.getId()), name);
             }
 
@@ -93,8 +100,6 @@ public class WriterCacheManager {
             }
         }
 
-        Collections.sort(names);
-
         return names;
     }
 
@@ -106,14 +111,14 @@ public class WriterCacheManager {
     private List<Long> loadWriterIdsOfSeries(long seriesId) {
         String redisKey = createSeriesWriterIdsKey(seriesId);
 
-        List<Long> writerIds;
-        if (redisManager.hasKey(redisKey)) {
-            writerIds = redisManager.getList(redisKey, Long.class);
-        } else {
-            writerIds = postBlockRepository.findDistinctWriterIdsBySeriesId(seriesId);
-            if (!writerIds.isEmpty()) {
-                redisManager.saveList(redisKey, writerIds);
-            }
+        long[] cachedIds = redisManager.getLongArrayOrNull(redisKey);
+        if (cachedIds != null) {
+            return Arrays.stream(cachedIds).boxed().toList();
+        }
+
+        List<Long> writerIds = postBlockRepository.findDistinctWriterIdsBySeriesId(seriesId);
+        if (!writerIds.isEmpty()) {
+            redisManager.saveLongArray(redisKey, writerIds.stream().mapToLong(Long::longValue).toArray());
         }
 
         return writerIds;
@@ -124,17 +129,17 @@ public class WriterCacheManager {
         return loadAccountNames(writerIds);
     }
 
-    private List<Long> loadWriterIdsOfPosts(long postId) {
+    public List<Long> loadWriterIdsOfPosts(long postId) {
         String redisKey = createPostWriterIdsKey(postId);
 
-        List<Long> writerIds;
-        if (redisManager.hasKey(redisKey)) {
-            writerIds = redisManager.getList(redisKey, Long.class);
-        } else {
-            writerIds = postBlockRepository.findDistinctWriterIdsByPostId(postId);
-            if (!writerIds.isEmpty()) {
-                redisManager.saveList(redisKey, writerIds);
-            }
+        long[] cachedIds = redisManager.getLongArrayOrNull(redisKey);
+        if (cachedIds != null) {
+            return Arrays.stream(cachedIds).boxed().toList();
+        }
+
+        List<Long> writerIds = postBlockRepository.findDistinctWriterIdsByPostId(postId);
+        if (!writerIds.isEmpty()) {
+            redisManager.saveLongArray(redisKey, writerIds.stream().mapToLong(Long::longValue).toArray());
         }
 
         return writerIds;
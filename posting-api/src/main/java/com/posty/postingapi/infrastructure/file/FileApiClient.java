@@ -1,37 +1,43 @@
 package com.posty.postingapi.infrastructure.file;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.posty.postingapi.error.FileCommunicationException;
 import com.posty.postingapi.properties.MediaProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 public class FileApiClient {
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor fileApiExecutor;
 
     private final String fileApiUrl;
     private final String fileApiToken;
 
-    public FileApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, MediaProperties mediaProperties) {
+    public FileApiClient(
+            RestTemplate restTemplate,
+            @Qualifier("fileApiExecutor") ThreadPoolTaskExecutor fileApiExecutor,
+            MediaProperties mediaProperties
+    ) {
         this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+        this.fileApiExecutor = fileApiExecutor;
 
         fileApiUrl = mediaProperties.getFileApiUrl();
         fileApiToken = mediaProperties.getFileApiToken();
     }
 
-    public FileUploadResponse upload(FileUploadRequest request) throws JsonProcessingException {
+    // 응답 본문을 문자열로 버퍼링하지 않고 스트림에서 바로 FileUploadResponse로 변환
+    public FileUploadResponse upload(FileUploadRequest request) {
         HttpMethod method = HttpMethod.POST;
 
         HttpHeaders headers = new HttpHeaders();
@@ -40,13 +46,13 @@ public class FileApiClient {
 
         HttpEntity<FileUploadRequest> entity = new HttpEntity<>(request, headers);
 
-        ResponseEntity<String> response;
+        ResponseEntity<FileUploadResponse> response;
         try {
             response = restTemplate.exchange(
                     fileApiUrl,
                     method,
                     entity,
-                    String.class
+                    FileUploadResponse.class
             );
         } catch (HttpStatusCodeException e) {
             throw new FileCommunicationException(method, e.getStatusCode(), e.getResponseBodyAsString(), e);
@@ -54,17 +60,144 @@ public class FileApiClient {
             throw new FileCommunicationException(method, e);
         }
 
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new FileCommunicationException(method, response.getStatusCode(), response.getBody());
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new FileCommunicationException(method, response.getStatusCode(), null);
+        }
+
+        return response.getBody();
+    }
+
+    // 호출 스레드를 막지 않도록 파일 API 전용 스레드에서 실행 (실패 시 FileCommunicationException으로 완료)
+    public CompletableFuture<FileUploadResponse> uploadAsync(FileUploadRequest request) {
+        return CompletableFuture.supplyAsync(() -> upload(request), fileApiExecutor);
+    }
+
+    /**
+     * 업로드 작업을 요청하고 작업 ID를 받음 (파일 API는 저장을 기다리지 않고 바로 응답)
+     * <p>
+     * 결과는 callbackUrl로 전달되거나 getUploadJob으로 조회한다.
+     */
+    public UploadJobResponse submitUploadJob(UploadJobRequest request) {
+        URI uri = UriComponentsBuilder
+                .fromUriString(fileApiUrl)
+                .pathSegment("jobs")
+                .build()
+                .toUri();
+
+        HttpMethod method = HttpMethod.POST;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(fileApiToken);
+
+        HttpEntity<UploadJobRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<UploadJobResponse> response;
+        try {
+            response = restTemplate.exchange(
+                    uri,
+                    method,
+                    entity,
+                    UploadJobResponse.class
+            );
+        } catch (HttpStatusCodeException e) {
+            throw new FileCommunicationException(method, e.getStatusCode(), e.getResponseBodyAsString(), e);
+        } catch (Exception e) {
+            throw new FileCommunicationException(method, e);
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new FileCommunicationException(method, response.getStatusCode(), null);
+        }
+
+        return response.getBody();
+    }
+
+    public CompletableFuture<UploadJobResponse> submitUploadJobAsync(UploadJobRequest request) {
+        return CompletableFuture.supplyAsync(() -> submitUploadJob(request), fileApiExecutor);
+    }
+
+    // 작업 상태는 파일 API 인스턴스의 메모리에만 있으므로, 만료되었거나 다른 인스턴스가 받은 작업이면 404 (FileCommunicationException.isNotFound)
+    public UploadJobResponse getUploadJob(String jobId) {
+        URI uri = UriComponentsBuilder
+                .fromUriString(fileApiUrl)
+                .pathSegment("jobs", jobId)
+                .build()
+                .toUri();
+
+        HttpMethod method = HttpMethod.GET;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(fileApiToken);
+
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<UploadJobResponse> response;
+        try {
+            response = restTemplate.exchange(
+                    uri,
+                    method,
+                    entity,
+                    UploadJobResponse.class
+            );
+        } catch (HttpStatusCodeException e) {
+            throw new FileCommunicationException(method, e.getStatusCode(), e.getResponseBodyAsString(), e);
+        } catch (Exception e) {
+            throw new FileCommunicationException(method, e);
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new FileCommunicationException(method, response.getStatusCode(), null);
+        }
+
+        return response.getBody();
+    }
+
+    /**
+     * 이미 저장된 파일의 참조를 추가하고 같은 파일 정보를 반환 (파일을 다시 내려받지 않음)
+     * <p>
+     * 참조는 referenceId(미디어 ID)로 기록되어 같은 요청을 다시 보내도 한 번만 추가되며, 미디어를 삭제할 때 같은 ID로 releaseReference를 호출해야 한다.
+     */
+    public FileUploadResponse addReference(String fileName, String referenceId) {
+        URI uri = UriComponentsBuilder
+                .fromUriString(fileApiUrl)
+                .pathSegment(fileName, "references", referenceId)
+                .build()
+                .toUri();
+
+        HttpMethod method = HttpMethod.POST;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(fileApiToken);
+
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<FileUploadResponse> response;
+        try {
+            response = restTemplate.exchange(
+                    uri,
+                    method,
+                    entity,
+                    FileUploadResponse.class
+            );
+        } catch (HttpStatusCodeException e) {
+            throw new FileCommunicationException(method, e.getStatusCode(), e.getResponseBodyAsString(), e);
+        } catch (Exception e) {
+            throw new FileCommunicationException(method, e);
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new FileCommunicationException(method, response.getStatusCode(), null);
         }
 
-        return objectMapper.readValue(response.getBody(), FileUploadResponse.class);
+        return response.getBody();
     }
 
-    public void delete(String fileName) {
+    // 미디어의 참조를 해제 (마지막 참조였으면 파일 API가 파일을 삭제하며, 이미 해제된 참조나 없는 파일이어도 성공)
+    public void releaseReference(String fileName, String referenceId) {
         URI uri = UriComponentsBuilder
                 .fromUriString(fileApiUrl)
-                .pathSegment(fileName)
+                .pathSegment(fileName, "references", referenceId)
                 .build()
                 .toUri();
 
@@ -75,13 +208,13 @@ public class FileApiClient {
 
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<String> response;
+        ResponseEntity<Void> response;
         try {
             response = restTemplate.exchange(
                     uri,
                     method,
                     entity,
-                    String.class
+                    Void.class
             );
         } catch (HttpStatusCodeException e) {
             throw new FileCommunicationException(method, e.getStatusCode(), e.getResponseBodyAsString(), e);
@@ -90,7 +223,7 @@ public class FileApiClient {
         }
 
         if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new FileCommunicationException(method, response.getStatusCode(), response.getBody());
+            throw new FileCommunicationException(method, response.getStatusCode(), null);
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.posty.postingapi.infrastructure.file;
 
+import com.posty.postingapi.domain.post.Media;
 import com.posty.postingapi.domain.post.MediaType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,6 +8,12 @@ import org.hibernate.validator.constraints.URL;
 
 public record FileUploadRequest(
         @NotNull MediaType mediaType,
-        @NotBlank @URL String originUrl
+        @NotBlank @URL String originUrl,
+        @NotBlank String referenceId
 ) {
+
+    // 파일 API는 참조를 미디어 ID로 기록하므로, 같은 미디어의 업로드를 다시 요청해도 참조가 늘지 않음
+    public static FileUploadRequest of(Media media) {
+        return new FileUploadRequest(media.getMediaType(), media.getOriginUrl(), String.valueOf(media.getId()));
+    }
 }
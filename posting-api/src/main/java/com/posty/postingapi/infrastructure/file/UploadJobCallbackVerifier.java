@@ -0,0 +1,84 @@
+package com.posty.postingapi.infrastructure.file;
+
+import com.posty.postingapi.properties.MediaProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 파일 API가 보낸 업로드 작업 콜백인지 확인
+ * <p>
+ * 파일 API는 API 토큰 대신 공유한 서명 키로 "타임스탬프.본문"의 HMAC-SHA256 값을 X-Callback-Signature 헤더로 보낸다.
+ * <br>
+ * 타임스탬프가 callbackTolerance보다 오래되었거나 서명 키가 설정되지 않았으면 모든 콜백을 거절한다.
+ */
+@Component
+public class UploadJobCallbackVerifier {
+
+    public static final String TIMESTAMP_HEADER = "X-Callback-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-Callback-Signature";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    private final Clock clock;
+
+    private final SecretKeySpec secretKey;
+    private final Duration tolerance;
+
+    public UploadJobCallbackVerifier(MediaProperties mediaProperties, Clock clock) {
+        this.clock = clock;
+
+        MediaProperties.UploadJobProperties uploadJobProperties = mediaProperties.getUploadJob();
+        String secret = uploadJobProperties.getCallbackSecret();
+        String callbackUrl = uploadJobProperties.getCallbackUrl();
+        if (secret == null || secret.isBlank()) {
+            if (callbackUrl != null && !callbackUrl.isBlank()) {
+                throw new IllegalStateException("media.upload-job.callback-secret is required when callback-url is set");
+            }
+            secretKey = null;
+        } else {
+            secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM);
+        }
+        tolerance = uploadJobProperties.getCallbackTolerance();
+    }
+
+    public boolean isValid(String timestamp, String signature, String body) {
+        if (secretKey == null || timestamp == null || signature == null || body == null
+                || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+
+        Instant signedAt;
+        try {
+            signedAt = Instant.ofEpochSecond(Long.parseLong(timestamp));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Duration.between(signedAt, clock.instant()).abs().compareTo(tolerance) > 0) {
+            return false;
+        }
+
+        byte[] expected = sign(timestamp + "." + body).getBytes(StandardCharsets.UTF_8);
+        byte[] actual = signature.substring(SIGNATURE_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(secretKey);
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to verify upload job callback", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.posty.postingapi.infrastructure.file;
+
+import com.posty.postingapi.domain.post.Media;
+import com.posty.postingapi.domain.post.MediaType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.URL;
+
+/**
+ * @param callbackUrl 작업이 끝나면 파일 API가 결과를 보낼 주소 (없으면 상태 조회로만 확인)
+ */
+public record UploadJobRequest(
+        @NotNull MediaType mediaType,
+        @NotBlank @URL String originUrl,
+        @NotBlank String referenceId,
+        @URL String callbackUrl
+) {
+
+    public static UploadJobRequest of(Media media, String callbackUrl) {
+        return new UploadJobRequest(media.getMediaType(), media.getOriginUrl(), String.valueOf(media.getId()), callbackUrl);
+    }
+}
@@ -0,0 +1,30 @@
+package com.posty.postingapi.infrastructure.file;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 파일 API의 업로드 작업 상태
+ * <p>
+ * storedUrl, storedFilename은 COMPLETED일 때만, error는 FAILED일 때만 값이 있음
+ * <br>
+ * 콜백 본문은 서명 확인 후 직접 변환하므로, 파일 API가 필드를 추가해도 실패하지 않도록 모르는 필드는 무시
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record UploadJobResponse(
+        String jobId,
+        UploadJobStatus status,
+        String storedUrl,
+        String storedFilename,
+        String error
+) {
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return status == UploadJobStatus.COMPLETED || status == UploadJobStatus.FAILED;
+    }
+
+    public FileUploadResponse toUploadResponse() {
+        return new FileUploadResponse(storedUrl, storedFilename);
+    }
+}
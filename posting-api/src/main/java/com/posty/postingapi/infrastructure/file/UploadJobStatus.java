@@ -0,0 +1,8 @@
+package com.posty.postingapi.infrastructure.file;
+
+public enum UploadJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+}
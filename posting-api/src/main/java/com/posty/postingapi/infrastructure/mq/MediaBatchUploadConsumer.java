@@ -0,0 +1,201 @@
+package com.posty.postingapi.infrastructure.mq;
+
+import com.posty.postingapi.domain.post.Media;
+import com.posty.postingapi.error.FileCommunicationException;
+import com.posty.postingapi.error.InvalidMediaStatusException;
+import com.posty.postingapi.error.ResourceNotFoundException;
+import com.posty.postingapi.infrastructure.file.FileApiClient;
+import com.posty.postingapi.infrastructure.file.FileUploadRequest;
+import com.posty.postingapi.infrastructure.file.FileUploadResponse;
+import com.posty.postingapi.properties.MediaProperties;
+import com.posty.postingapi.service.application.MediaService;
+import com.posty.postingapi.service.application.MediaUploadJobService;
+import jakarta.jms.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 업로드 큐의 메시지를 여러 건씩 받아 처리하는 배치 소비자 (media.listener.batch.enabled=true일 때만 동작)
+ * <p>
+ * 미디어는 한 번의 쿼리로 조회하고, 기존 파일 재사용 확인과 파일 업로드(또는 업로드 작업 요청)는 파일 API 전용 스레드에서 미디어별로 병렬 실행한다.
+ * <br>
+ * 배치 처리가 끝난 뒤 세션을 커밋하므로 도중에 중단되면 메시지가 다시 전달되며, 이미 처리된 미디어는 상태 확인으로 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "media.listener.batch", name = "enabled", havingValue = "true")
+public class MediaBatchUploadConsumer {
+
+    private static final MessageConverter MESSAGE_CONVERTER = new SimpleMessageConverter();
+
+    private final ConnectionFactory connectionFactory;
+    private final MediaService mediaService;
+    private final MediaUploadJobService mediaUploadJobService;
+    private final FileApiClient fileApiClient;
+    private final MediaQueueMetrics mediaQueueMetrics;
+    private final Executor fileApiExecutor;
+
+    private final String uploadQueueName;
+    private final int batchSize;
+    private final long receiveTimeoutMillis;
+
+    public MediaBatchUploadConsumer(
+            ConnectionFactory connectionFactory,
+            MediaService mediaService,
+            MediaUploadJobService mediaUploadJobService,
+            FileApiClient fileApiClient,
+            MediaQueueMetrics mediaQueueMetrics,
+            @Qualifier("fileApiExecutor") Executor fileApiExecutor,
+            MediaProperties mediaProperties
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.mediaService = mediaService;
+        this.mediaUploadJobService = mediaUploadJobService;
+        this.fileApiClient = fileApiClient;
+        this.mediaQueueMetrics = mediaQueueMetrics;
+        this.fileApiExecutor = fileApiExecutor;
+
+        uploadQueueName = mediaProperties.getUploadQueueName();
+
+        MediaProperties.ListenerProperties.BatchProperties batchProperties = mediaProperties.getListener().getBatch();
+        batchSize = batchProperties.getSize();
+        receiveTimeoutMillis = batchProperties.getReceiveTimeout().toMillis();
+    }
+
+    // 배치가 가득 찼으면 남은 메시지가 있을 수 있으므로 바로 다음 배치 처리
+    @Scheduled(fixedDelayString = "${media.listener.batch.fixed-delay}")
+    public void consumeUploads() throws JMSException {
+        int consumed;
+        do {
+            consumed = consumeBatch();
+        } while (consumed == batchSize);
+    }
+
+    int consumeBatch() throws JMSException {
+        try (
+                Connection connection = connectionFactory.createConnection();
+                Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+                MessageConsumer consumer = session.createConsumer(session.createQueue(uploadQueueName))
+        ) {
+            connection.start();
+
+            List<Long> mediaIds = receiveBatch(consumer);
+            if (mediaIds.isEmpty()) {
+                return 0;
+            }
+
+            log.debug("Received {} media upload requests", mediaIds.size());
+            uploadAll(mediaIds);
+
+            session.commit();
+            return mediaIds.size();
+        }
+    }
+
+    // 첫 메시지는 receiveTimeout만큼 기다리고, 이후에는 이미 도착한 메시지만 모음
+    private List<Long> receiveBatch(MessageConsumer consumer) throws JMSException {
+        List<Long> mediaIds = new ArrayList<>(batchSize);
+
+        Message message = consumer.receive(receiveTimeoutMillis);
+        while (message != null) {
+            mediaIds.add((Long) MESSAGE_CONVERTER.fromMessage(message));
+            if (mediaIds.size() >= batchSize) {
+                break;
+            }
+            message = consumer.receiveNoWait();
+        }
+        return mediaIds;
+    }
+
+    private void uploadAll(List<Long> mediaIds) {
+        long startNanos = System.nanoTime();
+
+        List<Media> mediaList = mediaService.findMediaWaitingUpload(new LinkedHashSet<>(mediaIds));
+
+        // 조회되지 않았거나 업로드 대기 상태가 아닌 미디어는 건너뜀
+        int skipped = mediaIds.size() - mediaList.size();
+        for (int i = 0; i < skipped; i++) {
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.SKIPPED, startNanos);
+        }
+
+        CompletableFuture<?>[] uploads = mediaList.stream()
+                .map(this::upload)
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(uploads).join();
+    }
+
+    private CompletableFuture<Void> upload(Media media) {
+        long startNanos = System.nanoTime();
+        Long mediaId = media.getId();
+
+        // 같은 원본 URL로 이미 업로드된 파일이 있으면 다시 업로드하지 않음 (재사용 확인에 실패하면 새로 업로드)
+        // 업로드 작업을 요청한 경우 결과는 콜백 또는 상태 조회로 반영되므로 빈 값으로 완료
+        CompletableFuture<Optional<FileUploadResponse>> upload = CompletableFuture
+                .supplyAsync(() -> mediaService.reuseStoredFile(media), fileApiExecutor)
+                .exceptionally(error -> {
+                    log.warn("Failed to check reusable file for media {}, uploading again", mediaId, error);
+                    return Optional.empty();
+                })
+                .thenCompose(reused -> {
+                    if (reused.isPresent()) {
+                        return CompletableFuture.completedFuture(reused);
+                    }
+                    if (mediaUploadJobService.isEnabled()) {
+                        return mediaUploadJobService.submitAsync(media).thenApply(submitted -> Optional.empty());
+                    }
+                    return fileApiClient.uploadAsync(FileUploadRequest.of(media)).thenApply(Optional::of);
+                });
+
+        return upload
+                .handle((result, error) -> {
+                    handleUploadResult(mediaId, result, error, startNanos);
+                    return null;
+                });
+    }
+
+    private void handleUploadResult(Long mediaId, Optional<FileUploadResponse> result, Throwable error, long startNanos) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+
+        if (cause instanceof FileCommunicationException) {
+            log.error("{}", cause.getMessage(), cause);
+            mediaService.failToUploadMedia(mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.FAILURE, startNanos);
+            return;
+        }
+        if (cause != null) {
+            throw new CompletionException(cause);
+        }
+
+        if (result.isEmpty()) {
+            log.debug("Media {} upload job submitted", mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.SUCCESS, startNanos);
+            return;
+        }
+
+        FileUploadResponse response = result.get();
+        try {
+            mediaService.completeUpload(mediaId, response);
+            log.debug("Media {} upload succeeded!", mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.SUCCESS, startNanos);
+
+        } catch (ResourceNotFoundException | InvalidMediaStatusException e) {
+            log.error("{}", e.getMessage(), e);
+            mediaService.releaseUnappliedUpload(mediaId, response);
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.SKIPPED, startNanos);
+        } catch (RuntimeException e) {
+            mediaService.releaseUnappliedUpload(mediaId, response);
+            throw e;
+        }
+    }
+}
@@ -1,57 +1,104 @@
 package com.posty.postingapi.infrastructure.mq;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.posty.postingapi.domain.post.Media;
 import com.posty.postingapi.error.FileCommunicationException;
 import com.posty.postingapi.error.InvalidMediaException;
 import com.posty.postingapi.error.InvalidMediaStatusException;
 import com.posty.postingapi.error.ResourceNotFoundException;
+import com.posty.postingapi.infrastructure.file.FileApiClient;
+import com.posty.postingapi.infrastructure.file.FileUploadRequest;
+import com.posty.postingapi.infrastructure.file.FileUploadResponse;
 import com.posty.postingapi.service.application.MediaService;
+import com.posty.postingapi.service.application.MediaUploadJobService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jms.annotation.JmsListener;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Slf4j
 @Service
 public class MediaEventConsumer {
 
     private final MediaService mediaService;
+    private final MediaUploadJobService mediaUploadJobService;
+    private final FileApiClient fileApiClient;
+    private final MediaQueueMetrics mediaQueueMetrics;
 
-    public MediaEventConsumer(MediaService mediaService) {
+    public MediaEventConsumer(
+            MediaService mediaService,
+            MediaUploadJobService mediaUploadJobService,
+            FileApiClient fileApiClient,
+            MediaQueueMetrics mediaQueueMetrics
+    ) {
         this.mediaService = mediaService;
+        this.mediaUploadJobService = mediaUploadJobService;
+        this.fileApiClient = fileApiClient;
+        this.mediaQueueMetrics = mediaQueueMetrics;
     }
 
-    @JmsListener(destination = "${media.upload-queue-name}")
+    @JmsListener(destination = "${media.upload-queue-name}", containerFactory = "mediaUploadListenerContainerFactory")
     public void consumeMediaUpload(Long mediaId) {
         log.debug("Received media upload request for media {}", mediaId);
+        long startNanos = System.nanoTime();
 
         try {
-            mediaService.uploadMediaFile(mediaId);
+            uploadMediaFile(mediaId);
             log.debug("Media {} upload succeeded!", mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.SUCCESS, startNanos);
             return;
 
         } catch(ResourceNotFoundException | InvalidMediaStatusException e) {
             log.error("{}", e.getMessage(), e);
-        } catch (FileCommunicationException | JsonProcessingException e) {
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.SKIPPED, startNanos);
+        } catch (FileCommunicationException e) {
             log.error("{}", e.getMessage(), e);
             mediaService.failToUploadMedia(mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.UPLOAD_QUEUE, MediaQueueMetrics.Result.FAILURE, startNanos);
         }
         log.debug("Media {} upload failed...", mediaId);
     }
 
-    @JmsListener(destination = "${media.delete-queue-name}")
+    // 파일 업로드는 트랜잭션 밖에서 진행하고, 결과 반영에 실패하면 이 미디어로 추가된 참조를 해제
+    private void uploadMediaFile(Long mediaId) {
+        Media media = mediaService.getMediaWaitingUpload(mediaId);
+
+        Optional<FileUploadResponse> reused = mediaService.reuseStoredFile(media);
+        if (reused.isEmpty() && mediaUploadJobService.isEnabled()) {
+            // 결과는 업로드 작업 콜백 또는 상태 조회로 반영됨
+            mediaUploadJobService.submit(media);
+            return;
+        }
+
+        FileUploadResponse response = reused
+                .orElseGet(() -> fileApiClient.upload(FileUploadRequest.of(media)));
+
+        try {
+            mediaService.completeUpload(mediaId, response);
+        } catch (RuntimeException e) {
+            mediaService.releaseUnappliedUpload(mediaId, response);
+            throw e;
+        }
+    }
+
+    @JmsListener(destination = "${media.delete-queue-name}", containerFactory = "mediaDeleteListenerContainerFactory")
     public void consumeMediaDelete(Long mediaId) {
         log.debug("Received media delete request for media {}", mediaId);
+        long startNanos = System.nanoTime();
 
         try {
             mediaService.deleteMediaFile(mediaId);
             log.debug("Media {} deletion succeeded!", mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.DELETE_QUEUE, MediaQueueMetrics.Result.SUCCESS, startNanos);
             return;
 
         } catch(ResourceNotFoundException | InvalidMediaStatusException e) {
             log.error("{}", e.getMessage(), e);
+            mediaQueueMetrics.record(MediaQueueMetrics.DELETE_QUEUE, MediaQueueMetrics.Result.SKIPPED, startNanos);
         } catch (InvalidMediaException | FileCommunicationException e) {
             log.error("{}", e.getMessage(), e);
             mediaService.failToDeleteMedia(mediaId);
+            mediaQueueMetrics.record(MediaQueueMetrics.DELETE_QUEUE, MediaQueueMetrics.Result.FAILURE, startNanos);
         }
         log.debug("Media {} deletion failed...", mediaId);
     }
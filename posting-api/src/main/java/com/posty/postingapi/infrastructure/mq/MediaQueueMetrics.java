@@ -0,0 +1,37 @@
+package com.posty.postingapi.infrastructure.mq;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// 큐별 처리 건수(처리량)와 처리 시간을 media.queue.processing 타이머로 기록 (태그: queue, result)
+@Component
+public class MediaQueueMetrics {
+
+    public static final String UPLOAD_QUEUE = "upload";
+    public static final String DELETE_QUEUE = "delete";
+
+    private static final String PROCESSING_METER_NAME = "media.queue.processing";
+
+    public enum Result {
+        SUCCESS,
+        FAILURE,
+        SKIPPED
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    public MediaQueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String queue, Result result, long startNanos) {
+        Timer.builder(PROCESSING_METER_NAME)
+                .tag("queue", queue)
+                .tag("result", result.name().toLowerCase())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,10 +1,12 @@
 package com.posty.postingapi.infrastructure.persistence.comment;
 
+import com.posty.postingapi.domain.account.QAccount;
 import com.posty.postingapi.domain.comment.Comment;
 import com.posty.postingapi.domain.comment.CommentRepositoryCustom;
 import com.posty.postingapi.domain.comment.QComment;
 import com.posty.postingapi.domain.post.QPost;
 import com.posty.postingapi.infrastructure.persistence.BaseQuerydslRepositorySupport;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,4 +39,40 @@ public class CommentRepositoryImpl extends BaseQuerydslRepositorySupport impleme
                 .where(comment.id.in(commentIds))
                 .execute();
     }
+
+    private BooleanExpression idBefore(QComment comment, Long lastId) {
+        return lastId == null ? null : comment.id.lt(lastId);
+    }
+
+    @Override
+    public List<Comment> findAllByPostIdBefore(Long postId, Long lastId, int limit) {
+        QComment comment = QComment.comment;
+        QAccount writer = QAccount.account;
+
+        return from(comment)
+                .join(comment.writer, writer).fetchJoin()
+                .where(
+                        comment.post.id.eq(postId),
+                        idBefore(comment, lastId)
+                )
+                .orderBy(comment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findAllByWriterIdBefore(Long accountId, Long lastId, int limit) {
+        QComment comment = QComment.comment;
+        QPost post = QPost.post;
+
+        return from(comment)
+                .join(comment.post, post).fetchJoin()
+                .where(
+                        comment.writer.id.eq(accountId),
+                        idBefore(comment, lastId)
+                )
+                .orderBy(comment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
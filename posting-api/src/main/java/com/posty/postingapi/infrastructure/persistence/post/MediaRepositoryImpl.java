@@ -4,7 +4,9 @@ import com.posty.postingapi.domain.post.*;
 import com.posty.postingapi.infrastructure.persistence.BaseQuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class MediaRepositoryImpl extends BaseQuerydslRepositorySupport implements MediaRepositoryCustom {
@@ -67,4 +69,51 @@ public class MediaRepositoryImpl extends BaseQuerydslRepositorySupport implement
                 .select(media)
                 .fetch();
     }
+
+    @Override
+    public Optional<Post> findPostByMediaId(long mediaId) {
+        QPostBlock postBlock = QPostBlock.postBlock;
+        QPost post = QPost.post;
+
+        Post found = from(postBlock)
+                .join(postBlock.post, post)
+                .where(
+                        postBlock.media.id.eq(mediaId)
+                )
+                .select(post)
+                .fetchFirst();
+
+        return Optional.ofNullable(found);
+    }
+
+    @Override
+    public Optional<Media> findUploadedMediaByOriginUrl(MediaType mediaType, String originUrl, long excludedMediaId) {
+        QMedia media = QMedia.media;
+
+        Media found = from(media)
+                .where(
+                        media.originUrl.eq(originUrl),
+                        media.mediaType.eq(mediaType),
+                        media.status.eq(MediaStatus.UPLOADED),
+                        media.id.ne(excludedMediaId)
+                )
+                .fetchFirst();
+
+        return Optional.ofNullable(found);
+    }
+
+    @Override
+    public List<Media> findMediaWithUploadJobsSubmittedBefore(LocalDateTime submittedBefore, int limit) {
+        QMedia media = QMedia.media;
+
+        return from(media)
+                .where(
+                        media.status.eq(MediaStatus.WAITING_UPLOAD),
+                        media.uploadJobId.isNotNull(),
+                        media.uploadJobSubmittedAt.lt(submittedBefore)
+                )
+                .orderBy(media.uploadJobSubmittedAt.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
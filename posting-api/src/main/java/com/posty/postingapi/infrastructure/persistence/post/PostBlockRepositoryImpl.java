@@ -1,11 +1,14 @@
 package com.posty.postingapi.infrastructure.persistence.post;
 
 import com.posty.postingapi.domain.account.QAccount;
-import com.posty.postingapi.domain.post.PostBlock;
-import com.posty.postingapi.domain.post.PostBlockRepositoryCustom;
-import com.posty.postingapi.domain.post.QPost;
-import com.posty.postingapi.domain.post.QPostBlock;
+import com.posty.postingapi.domain.post.*;
 import com.posty.postingapi.infrastructure.persistence.BaseQuerydslRepositorySupport;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -44,4 +47,72 @@ public class PostBlockRepositoryImpl extends BaseQuerydslRepositorySupport imple
                 .distinct()
                 .fetch();
     }
+
+    private JPQLQuery<PostBlockRow> selectRows(QPostBlock postBlock) {
+        QAccount writer = QAccount.account;
+        QMedia media = QMedia.media;
+
+        return from(postBlock)
+                .join(postBlock.writer, writer)
+                .leftJoin(postBlock.media, media)
+                .select(Projections.constructor(
+                        PostBlockRow.class,
+                        postBlock.id,
+                        postBlock.orderNo,
+                        writer.id,
+                        writer.name,
+                        postBlock.contentType,
+                        postBlock.textContent,
+                        media.mediaType,
+                        media.storedUrl,
+                        media.status,
+                        postBlock.createdAt,
+                        postBlock.updatedAt
+                ));
+    }
+
+    @Override
+    public Page<PostBlockRow> findRowsByPostId(Long postId, Pageable pageable) {
+        QPostBlock postBlock = QPostBlock.postBlock;
+
+        JPQLQuery<PostBlockRow> query = selectRows(postBlock)
+                .where(postBlock.post.id.eq(postId));
+
+        @SuppressWarnings("ConstantConditions")
+        List<PostBlockRow> rows = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        // 첫 페이지가 가득 차지 않는 등 전체 개수를 알 수 있는 경우 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(rows, pageable, () -> countByPostId(postId));
+    }
+
+    @Override
+    public List<PostBlockRow> findRowsByPostIdAfter(Long postId, Integer lastOrderNo, Long lastId, int limit) {
+        QPostBlock postBlock = QPostBlock.postBlock;
+
+        // (order_no, id) 복합 키 기준으로 마지막 행 이후부터 조회
+        BooleanExpression afterCursor = lastId == null
+                ? null
+                : postBlock.orderNo.gt(lastOrderNo)
+                        .or(postBlock.orderNo.eq(lastOrderNo).and(postBlock.id.gt(lastId)));
+
+        return selectRows(postBlock)
+                .where(
+                        postBlock.post.id.eq(postId),
+                        afterCursor
+                )
+                .orderBy(postBlock.orderNo.asc(), postBlock.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private long countByPostId(Long postId) {
+        QPostBlock postBlock = QPostBlock.postBlock;
+
+        Long count = from(postBlock)
+                .where(postBlock.post.id.eq(postId))
+                .select(postBlock.count())
+                .fetchOne();
+
+        return count == null ? 0L : count;
+    }
 }
@@ -2,10 +2,12 @@ package com.posty.postingapi.infrastructure.persistence.post;
 
 import com.posty.postingapi.domain.post.*;
 import com.posty.postingapi.infrastructure.persistence.BaseQuerydslRepositorySupport;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,18 +22,71 @@ public class PostRepositoryImpl extends BaseQuerydslRepositorySupport implements
     @Override
     public Page<Post> findAllByWriterId(Long writerId, Pageable pageable) {
         QPost post = QPost.post;
-        QPostBlock postBlock = QPostBlock.postBlock;
 
         JPQLQuery<Post> query = from(post)
-                .distinct()
-                .join(post.blocks, postBlock)
-                .where(postBlock.writer.id.eq(writerId));
+                .where(writtenBy(post, writerId));
 
         @SuppressWarnings("ConstantConditions")
         List<Post> posts = getQuerydsl().applyPagination(pageable, query).fetch();
 
-        long total = query.fetchCount();
+        return PageableExecutionUtils.getPage(posts, pageable, () -> countByWriterId(writerId));
+    }
+
+    // 해당 작가가 작성한 블록이 하나라도 있는 포스트 (post_block 전체를 조인하지 않고 존재 여부만 확인)
+    private BooleanExpression writtenBy(QPost post, Long writerId) {
+        QPostBlock postBlock = new QPostBlock("writerBlock");
+
+        return JPAExpressions.selectOne()
+                .from(postBlock)
+                .where(
+                        postBlock.post.eq(post),
+                        postBlock.writer.id.eq(writerId)
+                )
+                .exists();
+    }
+
+    private BooleanExpression idBefore(QPost post, Long lastId) {
+        return lastId == null ? null : post.id.lt(lastId);
+    }
+
+    @Override
+    public List<Post> findAllBySeriesIdBefore(Long seriesId, Long lastId, int limit) {
+        QPost post = QPost.post;
+
+        return from(post)
+                .where(
+                        post.series.id.eq(seriesId),
+                        idBefore(post, lastId)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Post> findAllByWriterIdBefore(Long writerId, Long lastId, int limit) {
+        QPost post = QPost.post;
+
+        return from(post)
+                .where(
+                        writtenBy(post, writerId),
+                        idBefore(post, lastId)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // post 테이블을 거치지 않고 post_block(writer_id, post_id) 인덱스만으로 개수 계산
+    @Override
+    public long countByWriterId(Long writerId) {
+        QPostBlock postBlock = QPostBlock.postBlock;
+
+        Long count = from(postBlock)
+                .where(postBlock.writer.id.eq(writerId))
+                .select(postBlock.post.id.countDistinct())
+                .fetchOne();
 
-        return new PageImpl<>(posts, pageable, total);
+        return count == null ? 0L : count;
     }
 }
@@ -1,14 +1,34 @@
 package com.posty.postingapi.infrastructure.persistence.series;
 
+import com.posty.postingapi.domain.account.QAccount;
+import com.posty.postingapi.domain.series.QSeries;
 import com.posty.postingapi.domain.series.Series;
 import com.posty.postingapi.domain.series.SeriesRepositoryCustom;
 import com.posty.postingapi.infrastructure.persistence.BaseQuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public class SeriesRepositoryImpl extends BaseQuerydslRepositorySupport implements SeriesRepositoryCustom {
 
     public SeriesRepositoryImpl() {
         super(Series.class);
     }
+
+    @Override
+    public List<Series> findAllByManagerIdBefore(Long accountId, Long lastId, int limit) {
+        QSeries series = QSeries.series;
+        QAccount manager = QAccount.account;
+
+        return from(series)
+                .join(series.managers, manager)
+                .where(
+                        manager.id.eq(accountId),
+                        lastId == null ? null : series.id.lt(lastId)
+                )
+                .orderBy(series.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
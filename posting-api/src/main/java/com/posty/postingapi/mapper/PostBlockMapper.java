@@ -2,6 +2,7 @@ package com.posty.postingapi.mapper;
 
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.post.*;
+import com.posty.postingapi.dto.account.AccountSummary;
 import com.posty.postingapi.dto.post.*;
 
 public class PostBlockMapper {
@@ -25,6 +26,24 @@ public class PostBlockMapper {
         );
     }
 
+    public static PostBlockResponse toPostBlockResponse(PostBlockRow row) {
+        ContentResponse content;
+        if (row.contentType() == ContentType.TEXT) {
+            content = new TextContentResponse(row.textContent());
+        } else {
+            content = new MediaContentResponse(row.mediaType(), row.storedUrl(), row.mediaStatus());
+        }
+
+        return new PostBlockResponse(
+                row.id(),
+                row.orderNo(),
+                new AccountSummary(row.writerId(), row.writerName()),
+                content,
+                row.createdAt(),
+                row.updatedAt()
+        );
+    }
+
     public static PostBlock toEntity(PostBlockRequest request, Post post, Account writer) {
         ContentRequest content = request.getContent();
         ContentType contentType = content.getType();
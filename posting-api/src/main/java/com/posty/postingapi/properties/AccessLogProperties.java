@@ -0,0 +1,45 @@
+package com.posty.postingapi.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    // 0.0 ~ 1.0 (endpoints에 해당하지 않는 요청에 적용)
+    private double sampleRate = 1.0;
+    private List<EndpointProperties> endpoints = new ArrayList<>();
+    // 요청/응답 본문을 이 길이(문자 수)까지만 기록
+    private int maxBodySize;
+    private List<String> maskedFields = new ArrayList<>();
+    private BodyCachingProperties bodyCaching = new BodyCachingProperties();
+
+    @Getter
+    @Setter
+    public static class EndpointProperties {
+
+        // AntPathMatcher 형식 (예: /posts/**), 먼저 선언된 것부터 확인
+        private String pattern;
+        private double sampleRate;
+    }
+
+    @Getter
+    @Setter
+    public static class BodyCachingProperties {
+
+        // AntPathMatcher 형식, 비어 있으면 모든 경로
+        private List<String> paths = new ArrayList<>();
+        // 이 타입에 포함되는 요청 본문만 캐싱 (예: application/json, text/*)
+        private List<String> contentTypes = new ArrayList<>();
+        // 요청마다 이 크기(바이트)까지만 메모리에 보관, 0이면 캐싱하지 않음
+        private int maxSize;
+    }
+}
@@ -0,0 +1,46 @@
+package com.posty.postingapi.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private RedisValueFormat redisValueFormat = RedisValueFormat.COMPACT;
+    private PostDetailCacheProperties postDetail = new PostDetailCacheProperties();
+    private ApiKeyCacheProperties apiKey = new ApiKeyCacheProperties();
+
+    public enum RedisValueFormat {
+        // 단순 값은 바이너리, 그 외는 JSON (기존 JSON 값도 읽을 수 있음)
+        COMPACT,
+        // 모든 값을 타입 정보가 포함된 JSON으로 저장
+        JSON
+    }
+
+    @Getter
+    @Setter
+    public static class PostDetailCacheProperties {
+
+        private long localMaxSize;
+        private Duration localTtl;
+        private Duration remoteTtl;
+    }
+
+    @Getter
+    @Setter
+    public static class ApiKeyCacheProperties {
+
+        private long maxSize;
+        // 없는 키 결과는 유효한 키와 따로 보관 (임의의 키가 몰려도 유효한 키가 밀려나지 않도록)
+        private long negativeMaxSize;
+        private Duration negativeTtl;
+        private Duration refreshInterval;
+    }
+}
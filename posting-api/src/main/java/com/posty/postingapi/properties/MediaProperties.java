@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -13,6 +15,61 @@ public class MediaProperties {
 
     private String fileApiUrl;
     private String fileApiToken;
+    private FileApiHttpProperties fileApiHttp = new FileApiHttpProperties();
     private String uploadQueueName;
     private String deleteQueueName;
+    private ListenerProperties listener = new ListenerProperties();
+    private UploadJobProperties uploadJob = new UploadJobProperties();
+
+    @Getter
+    @Setter
+    public static class ListenerProperties {
+
+        // "최소-최대" 형식의 동시 소비자 수
+        private String uploadConcurrency;
+        private String deleteConcurrency;
+        // 소비자 하나가 미리 받아두는 메시지 수 (작을수록 여러 소비자에게 고르게 분배됨)
+        private int prefetch;
+        private BatchProperties batch = new BatchProperties();
+
+        @Getter
+        @Setter
+        public static class BatchProperties {
+
+            // 활성화 시 업로드 큐는 메시지 단위 리스너 대신 배치 소비자가 처리
+            private boolean enabled;
+            private int size;
+            private Duration receiveTimeout;
+            // 큐가 비었을 때 다음 배치를 받기까지 쉬는 시간 (ms)
+            private long fixedDelay;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class FileApiHttpProperties {
+
+        private Duration connectTimeout;
+        // 파일 API는 원본 다운로드와 검사를 마친 뒤 응답하므로 넉넉하게 설정
+        private Duration readTimeout;
+        // 풀에서 연결을 얻기까지 기다리는 최대 시간
+        private Duration connectionRequestTimeout;
+        private int maxConnections;
+        // 파일 API는 단일 호스트이므로 사실상 동시 요청 수 상한 (비동기 요청 스레드 수도 이 값을 따름)
+        private int maxConnectionsPerRoute;
+    }
+
+    @Getter
+    @Setter
+    public static class UploadJobProperties {
+
+        // 활성화 시 파일 API에 업로드 작업을 요청하고, 결과는 콜백이나 상태 조회로 반영
+        private boolean enabled;
+        // 파일 API가 결과를 보낼 주소 (뒤에 미디어 ID가 붙음, 비어 있으면 상태 조회로만 확인)
+        private String callbackUrl;
+        // 콜백 서명 키 (파일 API의 upload-job.callback-secret과 같은 값)
+        private String callbackSecret;
+        // 콜백 타임스탬프가 현재 시각과 이보다 많이 차이 나면 거절
+        private Duration callbackTolerance;
+    }
 }
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -34,6 +36,24 @@ public class SchedulerProperties {
     public static class MediaSchedulerProperties {
 
         private MediaRetryProperties retry = new MediaRetryProperties();
+        private MediaOutboxProperties outbox = new MediaOutboxProperties();
+        private MediaUploadJobProperties uploadJob = new MediaUploadJobProperties();
+
+        @Getter
+        @Setter
+        public static class MediaUploadJobProperties {
+
+            // 요청 후 이 시간이 지나도 콜백으로 결과를 받지 못한 작업만 상태를 조회
+            private Duration pollAfter;
+            private int batchSize;
+        }
+
+        @Getter
+        @Setter
+        public static class MediaOutboxProperties {
+
+            private int batchSize;
+        }
 
         @Getter
         @Setter
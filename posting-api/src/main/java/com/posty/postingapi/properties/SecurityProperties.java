@@ -21,5 +21,6 @@ public class SecurityProperties {
 
         private Duration accessExpiry;
         private Duration refreshExpiry;
+        private long verifiedCacheSize;
     }
 }
@@ -1,5 +1,8 @@
 package com.posty.postingapi.scheduler;
 
+import com.posty.postingapi.properties.SchedulerProperties;
+import com.posty.postingapi.service.application.MediaUploadJobService;
+import com.posty.postingapi.service.scheduler.MediaOutboxRelayService;
 import com.posty.postingapi.service.scheduler.MediaRetryService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -13,9 +16,47 @@ import java.util.List;
 public class MediaScheduler {
 
     private final MediaRetryService mediaRetryService;
+    private final MediaOutboxRelayService mediaOutboxRelayService;
+    private final MediaUploadJobService mediaUploadJobService;
 
-    public MediaScheduler(MediaRetryService mediaRetryService) {
+    private final int outboxBatchSize;
+
+    public MediaScheduler(
+            MediaRetryService mediaRetryService,
+            MediaOutboxRelayService mediaOutboxRelayService,
+            MediaUploadJobService mediaUploadJobService,
+            SchedulerProperties schedulerProperties
+    ) {
         this.mediaRetryService = mediaRetryService;
+        this.mediaOutboxRelayService = mediaOutboxRelayService;
+        this.mediaUploadJobService = mediaUploadJobService;
+
+        outboxBatchSize = schedulerProperties.getMedia().getOutbox().getBatchSize();
+    }
+
+    // 한 배치가 가득 찼으면 남은 메시지가 있을 수 있으므로 바로 다음 배치 전송
+    @Scheduled(fixedDelayString = "${scheduler.media.outbox.fixed-delay}")
+    public void runMediaOutboxRelay() {
+        int total = 0;
+        int relayed;
+        do {
+            relayed = mediaOutboxRelayService.relayPendingMessages(outboxBatchSize);
+            total += relayed;
+        } while (relayed == outboxBatchSize);
+
+        if (total > 0) {
+            log.debug("{} media messages relayed from outbox.", total);
+        }
+    }
+
+    // 작업 모드를 끈 뒤에도 이미 요청한 작업은 결과를 반영해야 하므로 항상 실행
+    @Scheduled(fixedDelayString = "${scheduler.media.upload-job.fixed-delay}")
+    public void runUploadJobPolling() {
+        int polled = mediaUploadJobService.pollUnfinishedJobs();
+
+        if (polled > 0) {
+            log.debug("{} media upload jobs polled.", polled);
+        }
     }
 
     @Scheduled(cron = "${scheduler.media.retry.upload.cron}")
@@ -18,18 +18,18 @@ import java.io.IOException;
 @Slf4j
 public class ApiKeyFilter extends OncePerRequestFilter {
 
-    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyVerifier apiKeyVerifier;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
 
     private final String apiKeyHeaderName;
     private final String authTypeKey;
 
     public ApiKeyFilter(
-            ApiKeyRepository apiKeyRepository,
+            ApiKeyVerifier apiKeyVerifier,
             CustomAuthenticationEntryPoint authenticationEntryPoint,
             ApiProperties apiProperties
     ) {
-        this.apiKeyRepository = apiKeyRepository;
+        this.apiKeyVerifier = apiKeyVerifier;
         this.authenticationEntryPoint = authenticationEntryPoint;
 
         apiKeyHeaderName = apiProperties.getKeyHeaderName();
@@ -39,7 +39,8 @@ public class ApiKeyFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
-        return path.startsWith("/docs/");
+        return path.startsWith("/docs/")
+                || path.startsWith("/media/upload-jobs/"); // 파일 API 콜백은 서명으로 확인
     }
 
     @Override
@@ -53,7 +54,7 @@ public class ApiKeyFilter extends OncePerRequestFilter {
 
         String hashedKey = DigestUtils.sha512Hex(apiKey);
 
-        if (!apiKeyRepository.isValid(hashedKey)) {
+        if (!apiKeyVerifier.isValid(hashedKey)) {
             fail(request, response, apiKey, "Invalid or expired API key");
             return;
         }
@@ -1,5 +1,12 @@
 package com.posty.postingapi.security.apikey;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface ApiKeyRepositoryCustom {
-    boolean isValid(String keyHash);
+    Optional<ApiKeyValidity> findValidity(String keyHash);
+
+    // 아직 만료되지 않은 키 (시작 전인 키 포함)
+    List<ApiKeyValidity> findAllUnexpired(LocalDateTime now);
 }
@@ -1,43 +1,59 @@
 package com.posty.postingapi.security.apikey;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
 
-import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class ApiKeyRepositoryImpl implements ApiKeyRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
-    private final Clock clock;
 
-    public ApiKeyRepositoryImpl(EntityManager entityManager, Clock clock) {
+    public ApiKeyRepositoryImpl(EntityManager entityManager) {
         this.queryFactory = new JPAQueryFactory(entityManager);
-        this.clock = clock;
     }
 
     @Override
-    public boolean isValid(String keyHash) {
+    public Optional<ApiKeyValidity> findValidity(String keyHash) {
         if (StringUtils.isEmpty(keyHash)) {
-            return false;
+            return Optional.empty();
         }
 
-        LocalDateTime now = LocalDateTime.now(clock);
-
         QApiKey qApiKey = QApiKey.apiKey;
 
-        ApiKey apiKey = queryFactory
-                .selectFrom(qApiKey)
-                .where(
-                        qApiKey.keyHash.eq(keyHash),
-                        qApiKey.startsAt.loe(now),
-                        qApiKey.expiresAt.goe(now)
-                )
+        ApiKeyValidity validity = queryFactory
+                .select(selectValidity(qApiKey))
+                .from(qApiKey)
+                .where(qApiKey.keyHash.eq(keyHash))
                 .fetchOne();
 
-        return apiKey != null;
+        return Optional.ofNullable(validity);
+    }
+
+    @Override
+    public List<ApiKeyValidity> findAllUnexpired(LocalDateTime now) {
+        QApiKey qApiKey = QApiKey.apiKey;
+
+        return queryFactory
+                .select(selectValidity(qApiKey))
+                .from(qApiKey)
+                .where(qApiKey.expiresAt.goe(now))
+                .fetch();
+    }
+
+    private ConstructorExpression<ApiKeyValidity> selectValidity(QApiKey qApiKey) {
+        return Projections.constructor(
+                ApiKeyValidity.class,
+                qApiKey.keyHash,
+                qApiKey.startsAt,
+                qApiKey.expiresAt
+        );
     }
 }
@@ -0,0 +1,15 @@
+package com.posty.postingapi.security.apikey;
+
+import java.time.LocalDateTime;
+
+// API 키 검증에 필요한 값만 담은 조회 결과
+public record ApiKeyValidity(
+        String keyHash,
+        LocalDateTime startsAt,
+        LocalDateTime expiresAt
+) {
+
+    public boolean isUsableAt(LocalDateTime now) {
+        return !startsAt.isAfter(now) && !expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,139 @@
+package com.posty.postingapi.security.apikey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.posty.postingapi.properties.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 해시된 API 키를 DB 대신 메모리에서 검증
+ * <p>
+ * 시작 시 만료되지 않은 키를 모두 올려두고 refreshInterval마다 다시 읽어 추가/삭제된 키를 반영한다.
+ * <br>
+ * 캐시에 없는 키만 DB에서 확인하며, 유효한 키는 만료 시각까지, 없는 키는 negativeTtl 동안 결과를 보관
+ * <br>
+ * 없는 키는 별도의 작은 캐시(negativeMaxSize)에 보관하여 임의의 키가 몰려도 유효한 키가 밀려나지 않도록 함
+ */
+@Slf4j
+@Component
+public class ApiKeyVerifier {
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final Clock clock;
+
+    private final Cache<String, ApiKeyValidity> validKeys;
+    private final Cache<String, Boolean> invalidKeys;
+
+    public ApiKeyVerifier(ApiKeyRepository apiKeyRepository, Clock clock, CacheProperties cacheProperties) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.clock = clock;
+
+        CacheProperties.ApiKeyCacheProperties properties = cacheProperties.getApiKey();
+        validKeys = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new ValidityExpiry(clock))
+                .build();
+        invalidKeys = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeMaxSize())
+                .expireAfterWrite(properties.getNegativeTtl())
+                .build();
+    }
+
+    public boolean isValid(String keyHash) {
+        if (invalidKeys.getIfPresent(keyHash) != null) {
+            return false;
+        }
+
+        // 로더가 null을 반환하면 유효한 키 캐시에는 저장되지 않음
+        ApiKeyValidity validity = validKeys.get(keyHash, this::load);
+        if (validity == null) {
+            invalidKeys.put(keyHash, Boolean.TRUE);
+            return false;
+        }
+        return validity.isUsableAt(LocalDateTime.now(clock));
+    }
+
+    private ApiKeyValidity load(String keyHash) {
+        return apiKeyRepository.findValidity(keyHash)
+                .filter(validity -> !validity.expiresAt().isBefore(LocalDateTime.now(clock)))
+                .orElse(null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh();
+    }
+
+    // 새로 등록된 키는 저장된 부정 결과를 덮어쓰고, 삭제된 키는 캐시에서 제거
+    @Scheduled(
+            fixedDelayString = "${cache.api-key.refresh-interval}",
+            initialDelayString = "${cache.api-key.refresh-interval}"
+    )
+    public void refresh() {
+        List<ApiKeyValidity> unexpiredKeys;
+        try {
+            unexpiredKeys = apiKeyRepository.findAllUnexpired(LocalDateTime.now(clock));
+        } catch (DataAccessException e) {
+            log.error("Failed to load API keys, keeping cached keys", e);
+            return;
+        }
+
+        Set<String> loadedHashes = unexpiredKeys.stream()
+                .map(ApiKeyValidity::keyHash)
+                .collect(Collectors.toSet());
+
+        validKeys.asMap().keySet().removeIf(keyHash -> !loadedHashes.contains(keyHash));
+        unexpiredKeys.forEach(validity -> validKeys.put(validity.keyHash(), validity));
+        invalidKeys.invalidateAll(loadedHashes);
+
+        log.debug("Loaded {} API keys", unexpiredKeys.size());
+    }
+
+    private static class ValidityExpiry implements Expiry<String, ApiKeyValidity> {
+
+        // 만료 시각이 아주 먼 키도 주기적인 갱신으로 다시 저장되므로 이 이상 보관할 필요 없음
+        private static final Duration MAX_EXPIRY = Duration.ofDays(365);
+
+        private final Clock clock;
+
+        ValidityExpiry(Clock clock) {
+            this.clock = clock;
+        }
+
+        private long expiresAfter(ApiKeyValidity validity) {
+            Duration untilExpiry = Duration.between(LocalDateTime.now(clock), validity.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return untilExpiry.compareTo(MAX_EXPIRY) > 0 ? MAX_EXPIRY.toNanos() : untilExpiry.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String keyHash, ApiKeyValidity validity, long currentTime) {
+            return expiresAfter(validity);
+        }
+
+        @Override
+        public long expireAfterUpdate(String keyHash, ApiKeyValidity validity, long currentTime, long currentDuration) {
+            return expiresAfter(validity);
+        }
+
+        @Override
+        public long expireAfterRead(String keyHash, ApiKeyValidity validity, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.posty.postingapi.security.config;
 
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.security.apikey.ApiKeyFilter;
-import com.posty.postingapi.security.apikey.ApiKeyRepository;
+import com.posty.postingapi.security.apikey.ApiKeyVerifier;
 import com.posty.postingapi.security.jwt.JwtAuthenticationFilter;
 import com.posty.postingapi.security.jwt.JwtTokenProvider;
 import org.springframework.context.annotation.Bean;
@@ -17,12 +17,12 @@ public class SecurityConfig {
 
     @Bean
     public ApiKeyFilter apiKeyFilter(
-            ApiKeyRepository apiKeyRepository,
+            ApiKeyVerifier apiKeyVerifier,
             CustomAuthenticationEntryPoint authenticationEntryPoint,
             ApiProperties apiProperties
     ) {
         return new ApiKeyFilter(
-                apiKeyRepository,
+                apiKeyVerifier,
                 authenticationEntryPoint,
                 apiProperties
         );
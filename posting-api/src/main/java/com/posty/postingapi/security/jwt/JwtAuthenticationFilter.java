@@ -17,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -46,7 +47,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
         return path.startsWith("/docs/")
-                || path.startsWith("/auth/");
+                || path.startsWith("/auth/")
+                || path.startsWith("/media/upload-jobs/"); // 파일 API 콜백은 서명으로 확인
     }
 
     @Override
@@ -58,12 +60,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtTokenProvider.validateToken(token)) {
+        Optional<Claims> verifiedClaims = jwtTokenProvider.verify(token);
+        if (verifiedClaims.isEmpty()) {
             fail(request, response, "Invalid or expired access token");
             return;
         }
 
-        Claims claims = jwtTokenProvider.getClaims(token);
+        Claims claims = verifiedClaims.get();
         Long accountId = Long.valueOf(claims.getSubject());
 
         UsernamePasswordAuthenticationToken authentication =
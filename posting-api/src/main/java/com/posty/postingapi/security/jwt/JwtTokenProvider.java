@@ -1,6 +1,9 @@
 package com.posty.postingapi.security.jwt;
 
 import com.posty.postingapi.properties.SecurityProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
@@ -9,12 +12,18 @@ import javax.crypto.SecretKey;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    // 만든 뒤에는 상태가 바뀌지 않아 여러 스레드에서 함께 사용 가능
+    private final JwtParser parser;
+    // 검증을 마친 토큰 (토큰 문자열 전체가 키이므로 서명이 다른 토큰은 다시 검증됨), 크기가 0이면 사용하지 않음
+    private final Cache<String, Claims> verifiedTokens;
 
     @Getter
     private final Duration accessTokenExpiry;
@@ -23,10 +32,20 @@ public class JwtTokenProvider {
 
     public JwtTokenProvider(SecurityProperties securityProperties) {
         this.key = Jwts.SIG.HS256.key().build();
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
 
         SecurityProperties.jwtProperties jwtProperties = securityProperties.getJwt();
         accessTokenExpiry = jwtProperties.getAccessExpiry();
         refreshTokenExpiry = jwtProperties.getRefreshExpiry();
+
+        verifiedTokens = jwtProperties.getVerifiedCacheSize() > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(jwtProperties.getVerifiedCacheSize())
+                        .expireAfter(new TokenExpiry())
+                        .build()
+                : null;
     }
 
     public String createAccessToken(Long accountId, String accountName) {
@@ -53,23 +72,49 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명과 만료 시각을 한 번에 검증하고 클레임을 반환
+     * <p>
+     * 최근 검증한 토큰은 만료 시각까지 캐시에서 바로 반환하므로 같은 토큰의 서명을 다시 계산하지 않는다.
+     * @return 유효하지 않거나 만료된 토큰이면 empty
+     */
+    public Optional<Claims> verify(String token) {
+        if (verifiedTokens != null) {
+            Claims cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
+
+        if (verifiedTokens != null && claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return Optional.of(claims);
     }
 
-    public Claims getClaims(String token) {
-        Jws<Claims> jws = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
-        return jws.getPayload();
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
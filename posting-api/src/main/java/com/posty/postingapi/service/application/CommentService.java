@@ -1,5 +1,6 @@
 package com.posty.postingapi.service.application;
 
+import com.posty.postingapi.common.pagination.KeysetCursor;
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.account.AccountRepository;
 import com.posty.postingapi.domain.comment.Comment;
@@ -8,6 +9,7 @@ import com.posty.postingapi.domain.post.Post;
 import com.posty.postingapi.domain.post.PostRepository;
 import com.posty.postingapi.dto.account.AccountSummary;
 import com.posty.postingapi.dto.comment.CommentCreateRequest;
+import com.posty.postingapi.dto.common.CursorPage;
 import com.posty.postingapi.dto.comment.CommentDetailResponse;
 import com.posty.postingapi.dto.comment.CommentUpdateRequest;
 import com.posty.postingapi.dto.post.PostSummary;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @Transactional(readOnly = true)
 public class CommentService {
@@ -117,4 +121,49 @@ public class CommentService {
                 PostMapper.toPostSummary(comment.getPost()),
                 accountSummary
         ));
-    }}
+    }
+
+    public CursorPage<CommentDetailResponse> scrollCommentsByPost(Long postId, String cursor, int size, boolean withTotal) {
+        Post post = findPostById(postId);
+        PostSummary postSummary = PostMapper.toPostSummary(post);
+
+        Long lastId = KeysetCursor.decodeId(cursor);
+        List<Comment> comments = commentRepository.findAllByPostIdBefore(postId, lastId, size + 1);
+
+        Long total = withTotal ? commentRepository.countByPostId(postId) : null;
+
+        return CursorPage.of(
+                comments,
+                size,
+                comment -> KeysetCursor.ofId(comment.getId()),
+                comment -> CommentMapper.toCommentDetailResponse(
+                        comment,
+                        postSummary,
+                        AccountMapper.toAccountSummary(comment.getWriter())
+                ),
+                total
+        );
+    }
+
+    public CursorPage<CommentDetailResponse> scrollCommentsByAccount(Long accountId, String cursor, int size, boolean withTotal) {
+        Account account = findAccountById(accountId);
+        AccountSummary accountSummary = AccountMapper.toAccountSummary(account);
+
+        Long lastId = KeysetCursor.decodeId(cursor);
+        List<Comment> comments = commentRepository.findAllByWriterIdBefore(accountId, lastId, size + 1);
+
+        Long total = withTotal ? commentRepository.countByWriterId(accountId) : null;
+
+        return CursorPage.of(
+                comments,
+                size,
+                comment -> KeysetCursor.ofId(comment.getId()),
+                comment -> CommentMapper.toCommentDetailResponse(
+                        comment,
+                        PostMapper.toPostSummary(comment.getPost()),
+                        accountSummary
+                ),
+                total
+        );
+    }
+}
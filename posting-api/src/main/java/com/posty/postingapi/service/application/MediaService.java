@@ -1,25 +1,27 @@
 package com.posty.postingapi.service.application;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.posty.postingapi.domain.post.Media;
+import com.posty.postingapi.domain.post.event.PostChangedEvent;
 import com.posty.postingapi.domain.post.MediaRepository;
 import com.posty.postingapi.domain.post.MediaStatus;
-import com.posty.postingapi.domain.post.MediaType;
+import com.posty.postingapi.error.FileCommunicationException;
 import com.posty.postingapi.error.InvalidMediaException;
 import com.posty.postingapi.error.InvalidMediaStatusException;
 import com.posty.postingapi.error.ResourceNotFoundException;
 import com.posty.postingapi.infrastructure.file.FileApiClient;
-import com.posty.postingapi.infrastructure.file.FileUploadRequest;
 import com.posty.postingapi.infrastructure.file.FileUploadResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.utils.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -28,18 +30,28 @@ public class MediaService {
 
     private final MediaRepository mediaRepository;
     private final FileApiClient fileApiClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
     public MediaService(
             MediaRepository mediaRepository,
             FileApiClient fileApiClient,
+            ApplicationEventPublisher applicationEventPublisher,
             Clock clock
     ) {
         this.mediaRepository = mediaRepository;
         this.fileApiClient = fileApiClient;
+        this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
     }
 
+    // 업로드 결과(저장 URL, 상태)가 포스트 상세정보에 노출되므로 해당 포스트의 변경으로 알림
+    private void publishPostChangedEvent(Long mediaId) {
+        mediaRepository.findPostByMediaId(mediaId)
+                .map(post -> new PostChangedEvent(post.getId(), post.getSeries().getId()))
+                .ifPresent(applicationEventPublisher::publishEvent);
+    }
+
     @Transactional
     public List<Media> prepareMediaForUploadRetry(int maxUploadAttemptCount) {
         List<Media> failedMediaList = mediaRepository.findMediaWithUploadFailures(maxUploadAttemptCount);
@@ -112,8 +124,8 @@ public class MediaService {
         return mediaRepository.findMediaByPostId(postId);
     }
 
-    @Transactional
-    public void uploadMediaFile(Long mediaId) throws JsonProcessingException {
+    // 업로드할 미디어 조회 (파일 업로드는 트랜잭션 밖에서 진행한 뒤 completeUpload로 결과를 반영)
+    public Media getMediaWaitingUpload(Long mediaId) {
         Media media = mediaRepository.findById(mediaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Media", mediaId));
 
@@ -121,16 +133,133 @@ public class MediaService {
         if (status != MediaStatus.WAITING_UPLOAD) {
             throw new InvalidMediaStatusException(mediaId, status);
         }
+        return media;
+    }
 
-        MediaType mediaType = media.getMediaType();
-        String originUrl = media.getOriginUrl();
-        FileUploadRequest request = new FileUploadRequest(mediaType, originUrl);
+    /**
+     * 같은 원본 URL로 이미 업로드된 미디어가 있으면 그 파일에 참조만 추가하여 재사용
+     * <p>
+     * 재사용하지 못하면(대상 없음, 파일 API 오류) 빈 값을 반환하며, 이때는 원본을 새로 업로드하면 된다.
+     */
+    public Optional<FileUploadResponse> reuseStoredFile(Media media) {
+        Optional<Media> uploaded = mediaRepository.findUploadedMediaByOriginUrl(
+                media.getMediaType(), media.getOriginUrl(), media.getId()
+        );
+        if (uploaded.isEmpty()) {
+            return Optional.empty();
+        }
 
-        FileUploadResponse response;
-        response = fileApiClient.upload(request);
+        String storedFilename = uploaded.get().getStoredFilename();
+        try {
+            FileUploadResponse response = fileApiClient.addReference(storedFilename, String.valueOf(media.getId()));
+            log.debug("Media {} reuses stored file {}", media.getId(), storedFilename);
+            return Optional.of(response);
+        } catch (FileCommunicationException e) {
+            log.warn("Failed to reuse stored file {} for media {}, uploading again", storedFilename, media.getId(), e);
+            return Optional.empty();
+        }
+    }
 
+    private void applyUploadResult(Media media, FileUploadResponse response) {
         media.uploaded(response.storedUrl(), response.storedFilename(), LocalDateTime.now(clock));
         mediaRepository.save(media);
+
+        publishPostChangedEvent(media.getId());
+    }
+
+    // 배치 업로드 대상 조회 (한 번의 IN 쿼리로 조회 후 업로드 대기 상태인 것만 반환)
+    public List<Media> findMediaWaitingUpload(Collection<Long> mediaIds) {
+        return mediaRepository.findAllById(mediaIds).stream()
+                .filter(media -> media.getStatus() == MediaStatus.WAITING_UPLOAD)
+                .toList();
+    }
+
+    // 파일 업로드는 트랜잭션 밖에서 끝낸 뒤 결과만 짧은 트랜잭션으로 반영
+    @Transactional
+    public void completeUpload(Long mediaId, FileUploadResponse response) {
+        Media media = mediaRepository.findById(mediaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Media", mediaId));
+
+        MediaStatus status = media.getStatus();
+        if (status != MediaStatus.WAITING_UPLOAD) {
+            throw new InvalidMediaStatusException(mediaId, status);
+        }
+
+        applyUploadResult(media, response);
+    }
+
+    /**
+     * 파일 API에 요청한 업로드 작업을 기록 (미디어는 결과를 받을 때까지 업로드 대기 상태로 남음)
+     *
+     * @return 미디어가 없거나 업로드 대기 상태가 아니면 false
+     */
+    @Transactional
+    public boolean startUploadJob(Long mediaId, String jobId) {
+        Optional<Media> found = mediaRepository.findById(mediaId)
+                .filter(media -> media.getStatus() == MediaStatus.WAITING_UPLOAD);
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        Media media = found.get();
+        media.uploadJobSubmitted(jobId, LocalDateTime.now(clock));
+        mediaRepository.save(media);
+        return true;
+    }
+
+    // 이 미디어가 기다리는 작업의 결과만 반영 (이전 작업의 늦은 결과이거나 이미 처리되었으면 false)
+    @Transactional
+    public boolean completeUploadJob(Long mediaId, String jobId, FileUploadResponse response) {
+        Optional<Media> found = findMediaWaitingUploadJob(mediaId, jobId);
+        found.ifPresent(media -> applyUploadResult(media, response));
+        return found.isPresent();
+    }
+
+    @Transactional
+    public boolean failUploadJob(Long mediaId, String jobId) {
+        Optional<Media> found = findMediaWaitingUploadJob(mediaId, jobId);
+        found.ifPresent(media -> {
+            media.uploadFailed(LocalDateTime.now(clock));
+            mediaRepository.save(media);
+
+            publishPostChangedEvent(mediaId);
+        });
+        return found.isPresent();
+    }
+
+    private Optional<Media> findMediaWaitingUploadJob(Long mediaId, String jobId) {
+        return mediaRepository.findById(mediaId)
+                .filter(media -> media.getStatus() == MediaStatus.WAITING_UPLOAD)
+                .filter(media -> jobId.equals(media.getUploadJobId()));
+    }
+
+    // 콜백으로 결과를 받지 못한 작업 (요청 후 submittedBefore 이전에 요청된 것)
+    public List<Media> findMediaWithUploadJobsSubmittedBefore(LocalDateTime submittedBefore, int limit) {
+        return mediaRepository.findMediaWithUploadJobsSubmittedBefore(submittedBefore, limit);
+    }
+
+    /**
+     * 업로드(또는 참조 추가)는 끝났지만 completeUpload가 실패했을 때 이 미디어 ID로 추가된 참조를 해제
+     * <p>
+     * 다른 요청이 같은 파일로 이미 업로드를 반영했다면 그 참조를 쓰고 있으므로 해제하지 않는다.
+     * <br>
+     * 해제에 실패하면 로그만 남기며, 미디어가 다시 업로드되면 같은 ID의 참조가 재사용된다.
+     */
+    public void releaseUnappliedUpload(Long mediaId, FileUploadResponse response) {
+        boolean applied = mediaRepository.findById(mediaId)
+                .map(Media::getStoredFilename)
+                .filter(response.storedFilename()::equals)
+                .isPresent();
+        if (applied) {
+            return;
+        }
+
+        try {
+            fileApiClient.releaseReference(response.storedFilename(), String.valueOf(mediaId));
+            log.debug("Released unapplied file {} of media {}", response.storedFilename(), mediaId);
+        } catch (FileCommunicationException e) {
+            log.warn("Failed to release unapplied file {} of media {}", response.storedFilename(), mediaId, e);
+        }
     }
 
     @Transactional
@@ -140,6 +269,8 @@ public class MediaService {
 
         media.uploadFailed(LocalDateTime.now(clock));
         mediaRepository.save(media);
+
+        publishPostChangedEvent(mediaId);
     }
 
     @Transactional
@@ -157,7 +288,7 @@ public class MediaService {
             throw new InvalidMediaException("Filename is empty (ID: " + mediaId + ")");
         }
 
-        fileApiClient.delete(fileName);
+        fileApiClient.releaseReference(fileName, String.valueOf(mediaId));
 
         mediaRepository.delete(media);
     }
@@ -0,0 +1,175 @@
+package com.posty.postingapi.service.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.domain.post.Media;
+import com.posty.postingapi.error.FileCommunicationException;
+import com.posty.postingapi.error.InvalidAuthenticationException;
+import com.posty.postingapi.infrastructure.file.FileApiClient;
+import com.posty.postingapi.infrastructure.file.UploadJobCallbackVerifier;
+import com.posty.postingapi.infrastructure.file.UploadJobRequest;
+import com.posty.postingapi.infrastructure.file.UploadJobResponse;
+import com.posty.postingapi.properties.MediaProperties;
+import com.posty.postingapi.properties.SchedulerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 API의 업로드 작업으로 미디어를 업로드 (media.upload-job.enabled=true일 때 업로드 소비자가 사용)
+ * <p>
+ * 작업을 요청하면 작업 ID만 기록하고, 결과는 파일 API의 서명된 콜백으로 받아 반영한다.
+ * <br>
+ * 콜백을 받지 못한 작업은 pollAfter가 지난 뒤 상태를 조회하며, 작업을 찾지 못하면(만료, 다른 인스턴스가 받은 작업) 업로드 실패로 처리하여 재시도 스케줄러가 다시 요청하게 한다.
+ */
+@Slf4j
+@Service
+public class MediaUploadJobService {
+
+    private final MediaService mediaService;
+    private final FileApiClient fileApiClient;
+    private final UploadJobCallbackVerifier callbackVerifier;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final String callbackUrl;
+    private final Duration pollAfter;
+    private final int pollBatchSize;
+
+    public MediaUploadJobService(
+            MediaService mediaService,
+            FileApiClient fileApiClient,
+            UploadJobCallbackVerifier callbackVerifier,
+            ObjectMapper objectMapper,
+            Clock clock,
+            MediaProperties mediaProperties,
+            SchedulerProperties schedulerProperties
+    ) {
+        this.mediaService = mediaService;
+        this.fileApiClient = fileApiClient;
+        this.callbackVerifier = callbackVerifier;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+
+        MediaProperties.UploadJobProperties uploadJobProperties = mediaProperties.getUploadJob();
+        enabled = uploadJobProperties.isEnabled();
+        callbackUrl = uploadJobProperties.getCallbackUrl();
+
+        SchedulerProperties.MediaSchedulerProperties.MediaUploadJobProperties pollProperties = schedulerProperties.getMedia().getUploadJob();
+        pollAfter = pollProperties.getPollAfter();
+        pollBatchSize = pollProperties.getBatchSize();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void submit(Media media) {
+        UploadJobResponse job = fileApiClient.submitUploadJob(UploadJobRequest.of(media, callbackUrlOf(media)));
+        recordSubmitted(media.getId(), job);
+    }
+
+    // 호출 스레드를 막지 않도록 파일 API 전용 스레드에서 요청 (실패 시 FileCommunicationException으로 완료)
+    public CompletableFuture<Void> submitAsync(Media media) {
+        return fileApiClient.submitUploadJobAsync(UploadJobRequest.of(media, callbackUrlOf(media)))
+                .thenAccept(job -> recordSubmitted(media.getId(), job));
+    }
+
+    // 그 사이 미디어가 삭제되었거나 다른 요청이 처리했으면 기록하지 않음 (작업 결과가 오면 applyResult에서 참조를 해제)
+    private void recordSubmitted(Long mediaId, UploadJobResponse job) {
+        if (mediaService.startUploadJob(mediaId, job.jobId())) {
+            log.debug("Media {} upload job {} has been submitted", mediaId, job.jobId());
+        } else {
+            log.info("Media {} is no longer waiting for upload, ignoring upload job {}", mediaId, job.jobId());
+        }
+    }
+
+    private String callbackUrlOf(Media media) {
+        if (callbackUrl == null || callbackUrl.isBlank()) {
+            return null;
+        }
+
+        return UriComponentsBuilder
+                .fromUriString(callbackUrl)
+                .pathSegment(String.valueOf(media.getId()))
+                .build()
+                .toUriString();
+    }
+
+    public void handleCallback(Long mediaId, String timestamp, String signature, String body) {
+        if (!callbackVerifier.isValid(timestamp, signature, body)) {
+            log.warn("Upload job callback for media {} has an invalid signature", mediaId);
+            throw new InvalidAuthenticationException();
+        }
+
+        UploadJobResponse job;
+        try {
+            job = objectMapper.readValue(body, UploadJobResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid upload job callback body", e);
+        }
+
+        applyResult(mediaId, job);
+    }
+
+    /**
+     * 끝난 작업의 결과를 반영
+     * <p>
+     * 완료된 작업이 반영되지 않으면(이전 작업, 삭제된 미디어) 이 미디어 ID로 추가된 참조를 해제한다.
+     */
+    public void applyResult(Long mediaId, UploadJobResponse job) {
+        switch (job.status()) {
+            case COMPLETED -> {
+                if (mediaService.completeUploadJob(mediaId, job.jobId(), job.toUploadResponse())) {
+                    log.debug("Media {} upload job {} succeeded!", mediaId, job.jobId());
+                } else {
+                    log.info("Media {} is not waiting for upload job {}, releasing its file", mediaId, job.jobId());
+                    mediaService.releaseUnappliedUpload(mediaId, job.toUploadResponse());
+                }
+            }
+            case FAILED -> {
+                if (mediaService.failUploadJob(mediaId, job.jobId())) {
+                    log.warn("Media {} upload job {} failed: {}", mediaId, job.jobId(), job.error());
+                }
+            }
+            default -> log.debug("Media {} upload job {} is {}", mediaId, job.jobId(), job.status());
+        }
+    }
+
+    /**
+     * 콜백으로 결과를 받지 못한 작업의 상태를 조회하여 반영
+     *
+     * @return 상태를 조회한 작업 수
+     */
+    public int pollUnfinishedJobs() {
+        LocalDateTime submittedBefore = LocalDateTime.now(clock).minus(pollAfter);
+        List<Media> mediaList = mediaService.findMediaWithUploadJobsSubmittedBefore(submittedBefore, pollBatchSize);
+
+        for (Media media : mediaList) {
+            Long mediaId = media.getId();
+            String jobId = media.getUploadJobId();
+
+            try {
+                UploadJobResponse job = fileApiClient.getUploadJob(jobId);
+                if (job.isFinished()) {
+                    applyResult(mediaId, job);
+                }
+            } catch (FileCommunicationException e) {
+                if (e.isNotFound()) {
+                    log.warn("Media {} upload job {} has not been found, failing it for retry", mediaId, jobId);
+                    mediaService.failUploadJob(mediaId, jobId);
+                } else {
+                    log.warn("Failed to poll media {} upload job {}", mediaId, jobId, e);
+                }
+            }
+        }
+        return mediaList.size();
+    }
+}
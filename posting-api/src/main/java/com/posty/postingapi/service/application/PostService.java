@@ -1,12 +1,15 @@
 package com.posty.postingapi.service.application;
 
+import com.posty.postingapi.common.pagination.KeysetCursor;
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.account.AccountRepository;
 import com.posty.postingapi.domain.comment.CommentRepository;
 import com.posty.postingapi.domain.post.event.MediaChangedEvent;
 import com.posty.postingapi.domain.post.event.PostChangedEvent;
 import com.posty.postingapi.domain.series.event.SeriesChangedEvent;
+import com.posty.postingapi.dto.common.CursorPage;
 import com.posty.postingapi.dto.post.*;
+import com.posty.postingapi.infrastructure.cache.PostDetailCacheManager;
 import com.posty.postingapi.infrastructure.cache.WriterCacheManager;
 import com.posty.postingapi.domain.post.*;
 import com.posty.postingapi.domain.series.Series;
@@ -18,6 +21,7 @@ import com.posty.postingapi.properties.PaginationProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -37,6 +41,7 @@ public class PostService {
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final WriterCacheManager writerCacheManager;
+    private final PostDetailCacheManager postDetailCacheManager;
 
     private final MediaService mediaService;
 
@@ -51,6 +56,7 @@ public class PostService {
             CommentRepository commentRepository,
             ApplicationEventPublisher applicationEventPublisher,
             WriterCacheManager writerCacheManager,
+            PostDetailCacheManager postDetailCacheManager,
             MediaService mediaService,
             PaginationProperties paginationProperties
     ) {
@@ -63,6 +69,7 @@ public class PostService {
         this.applicationEventPublisher = applicationEventPublisher;
 
         this.writerCacheManager = writerCacheManager;
+        this.postDetailCacheManager = postDetailCacheManager;
 
         this.mediaService = mediaService;
 
@@ -80,9 +87,23 @@ public class PostService {
                 .orElseThrow(() -> new ResourceNotFoundException("Series", seriesId));
     }
 
-    private Account findWriterById(Long accountId) {
-        return accountRepository.findNonDeletedById(accountId)
-                .orElseThrow(() -> new ResourceNotFoundException("Writer", accountId));
+    // 블록 수와 관계없이 작성자를 한 번의 쿼리로 조회
+    private Map<Long, Account> findWritersByIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> distinctIds = accountIds.stream().distinct().toList();
+        Map<Long, Account> writerMap = accountRepository.findNonDeletedByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        for (Long accountId : distinctIds) {
+            if (!writerMap.containsKey(accountId)) {
+                throw new ResourceNotFoundException("Writer", accountId);
+            }
+        }
+
+        return writerMap;
     }
 
     private void createPostBlocks(Post post, List<PostBlockCreateRequest> blockRequests, List<String> writers) {
@@ -90,9 +111,12 @@ public class PostService {
             return;
         }
 
+        Map<Long, Account> writerMap = findWritersByIds(
+                blockRequests.stream().map(PostBlockCreateRequest::getWriterId).toList()
+        );
+
         for (PostBlockCreateRequest blockRequest : blockRequests) {
-            Long writerId = blockRequest.getWriterId();
-            Account writer = findWriterById(writerId);
+            Account writer = writerMap.get(blockRequest.getWriterId());
 
             PostBlock newBlock = PostBlockMapper.toEntity(blockRequest, post, writer);
             post.addBlock(newBlock);
@@ -133,18 +157,49 @@ public class PostService {
         publishMediaDeletedEvents(waitingMediaList);
     }
 
+    // 캐시 적중 시 DB 커넥션을 점유하지 않도록 물리 트랜잭션 없이 실행 (캐시 미스 시 조회 범위 동안 영속성 컨텍스트는 유지됨)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PostDetailResponse getPostDetail(Long postId, int page, int size) {
+        if (page == defaultPage && size == defaultPageSize) {
+            return postDetailCacheManager.loadPostDetail(postId, () -> loadPostDetail(postId, page, size));
+        }
+
+        return loadPostDetail(postId, page, size);
+    }
+
+    private PostDetailResponse loadPostDetail(Long postId, int page, int size) {
         Post post = findPostById(postId);
 
         List<String> writers = writerCacheManager.loadWritersOfPosts(postId);
 
         PageRequest pageable = PageRequest.of(page, size, PostBlock.SORT);
-        Page<PostBlockResponse> blocks = postBlockRepository.findAllByPostId(postId, pageable)
+        Page<PostBlockResponse> blocks = postBlockRepository.findRowsByPostId(postId, pageable)
                 .map(PostBlockMapper::toPostBlockResponse);
 
         return PostMapper.toPostDetailResponse(post, writers, blocks);
     }
 
+    public CursorPage<PostBlockResponse> getPostBlocks(Long postId, String cursor, int size, boolean withTotal) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post", postId);
+        }
+
+        KeysetCursor after = KeysetCursor.decodeKeyed(cursor);
+        List<PostBlockRow> rows = after == null
+                ? postBlockRepository.findRowsByPostIdAfter(postId, null, null, size + 1)
+                : postBlockRepository.findRowsByPostIdAfter(postId, after.intKey(), after.id(), size + 1);
+
+        Long total = withTotal ? postBlockRepository.countByPostId(postId) : null;
+
+        return CursorPage.of(
+                rows,
+                size,
+                row -> KeysetCursor.of(row.orderNo(), row.id()),
+                PostBlockMapper::toPostBlockResponse,
+                total
+        );
+    }
+
     @Transactional
     public PostDetailResponse createPost(PostCreateRequest request) {
         Long seriesId = request.getSeriesId();
@@ -224,6 +279,7 @@ public class PostService {
         Map<Long, PostBlock> blockMap = post.getBlocks().stream()
                 .collect(Collectors.toMap(PostBlock::getId, Function.identity()));
 
+        List<Long> changedWriterIds = new ArrayList<>();
         for (PostBlockUpdateRequest blockRequest : blockRequests) {
             Long blockId = blockRequest.getId();
             PostBlock block = blockMap.get(blockId);
@@ -231,10 +287,19 @@ public class PostService {
                 throw new ResourceNotFoundException("PostBlock", blockId);
             }
 
+            if (!blockRequest.getWriterId().equals(block.getWriter().getId())) {
+                changedWriterIds.add(blockRequest.getWriterId());
+            }
+        }
+        Map<Long, Account> writerMap = findWritersByIds(changedWriterIds);
+
+        for (PostBlockUpdateRequest blockRequest : blockRequests) {
+            PostBlock block = blockMap.get(blockRequest.getId());
+
             Long newWriterId = blockRequest.getWriterId();
             Account writer = newWriterId.equals(block.getWriter().getId())
                     ? block.getWriter()
-                    : findWriterById(newWriterId);
+                    : writerMap.get(newWriterId);
 
             PostBlock temp = PostBlockMapper.toEntity(blockRequest, post, writer);
 
@@ -294,4 +359,23 @@ public class PostService {
         Page<Post> posts = postRepository.findAllByWriterId(accountId, pageable);
         return posts.map(PostMapper::toPostSummary);
     }
+
+    public CursorPage<PostSummary> scrollPostsByWriter(Long accountId, String cursor, int size, boolean withTotal) {
+        if (!accountRepository.existsNonDeletedById(accountId)) {
+            throw new ResourceNotFoundException("Account", accountId);
+        }
+
+        Long lastId = KeysetCursor.decodeId(cursor);
+        List<Post> posts = postRepository.findAllByWriterIdBefore(accountId, lastId, size + 1);
+
+        Long total = withTotal ? postRepository.countByWriterId(accountId) : null;
+
+        return CursorPage.of(
+                posts,
+                size,
+                post -> KeysetCursor.ofId(post.getId()),
+                PostMapper::toPostSummary,
+                total
+        );
+    }
 }
@@ -1,10 +1,13 @@
 package com.posty.postingapi.service.application;
 
+import com.posty.postingapi.common.pagination.KeysetCursor;
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.account.AccountRepository;
 import com.posty.postingapi.domain.comment.CommentRepository;
 import com.posty.postingapi.domain.post.event.MediaChangedEvent;
+import com.posty.postingapi.domain.post.event.PostChangedEvent;
 import com.posty.postingapi.domain.series.event.SeriesChangedEvent;
+import com.posty.postingapi.dto.common.CursorPage;
 import com.posty.postingapi.dto.series.SeriesSummary;
 import com.posty.postingapi.infrastructure.cache.WriterCacheManager;
 import com.posty.postingapi.domain.post.*;
@@ -101,6 +104,25 @@ public class SeriesService {
         return SeriesMapper.toSeriesDetailResponse(series, writers, posts);
     }
 
+    public CursorPage<PostSummary> getSeriesPosts(Long seriesId, String cursor, int size, boolean withTotal) {
+        if (!seriesRepository.existsById(seriesId)) {
+            throw new ResourceNotFoundException("Series", seriesId);
+        }
+
+        Long lastId = KeysetCursor.decodeId(cursor);
+        List<Post> posts = postRepository.findAllBySeriesIdBefore(seriesId, lastId, size + 1);
+
+        Long total = withTotal ? postRepository.countBySeriesId(seriesId) : null;
+
+        return CursorPage.of(
+                posts,
+                size,
+                post -> KeysetCursor.ofId(post.getId()),
+                PostMapper::toPostSummary,
+                total
+        );
+    }
+
     @Transactional
     public SeriesDetailResponse createSeries(SeriesCreateRequest request) {
         request.normalize();
@@ -155,11 +177,15 @@ public class SeriesService {
         Series series = findSeriesById(seriesId);
 
         List<Media> mediaList = mediaService.findMediaBySeriesId(seriesId);
+        List<Long> postIds = series.getPosts().stream()
+                .map(Post::getId)
+                .toList();
 
         commentRepository.deleteAllBySeriesId(seriesId);
         seriesRepository.delete(series);
 
         applicationEventPublisher.publishEvent(new SeriesChangedEvent(seriesId));
+        postIds.forEach(postId -> applicationEventPublisher.publishEvent(new PostChangedEvent(postId, seriesId)));
         deleteMediaAndPublishEvents(mediaList);
     }
 
@@ -171,4 +197,23 @@ public class SeriesService {
         Page<Series> series = seriesRepository.findByManagersId(accountId, pageable);
         return series.map(SeriesMapper::toSeriesSummary);
     }
+
+    public CursorPage<SeriesSummary> scrollSeriesByManager(Long accountId, String cursor, int size, boolean withTotal) {
+        if (!accountRepository.existsNonDeletedById(accountId)) {
+            throw new ResourceNotFoundException("Account", accountId);
+        }
+
+        Long lastId = KeysetCursor.decodeId(cursor);
+        List<Series> series = seriesRepository.findAllByManagerIdBefore(accountId, lastId, size + 1);
+
+        Long total = withTotal ? seriesRepository.countByManagersId(accountId) : null;
+
+        return CursorPage.of(
+                series,
+                size,
+                item -> KeysetCursor.ofId(item.getId()),
+                SeriesMapper::toSeriesSummary,
+                total
+        );
+    }
 }
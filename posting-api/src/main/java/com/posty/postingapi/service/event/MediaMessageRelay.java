@@ -1,25 +1,24 @@
 package com.posty.postingapi.service.event;
 
+import com.posty.postingapi.domain.post.MediaOutbox;
+import com.posty.postingapi.domain.post.MediaOutboxRepository;
 import com.posty.postingapi.domain.post.event.MediaChangedEvent;
-import com.posty.postingapi.infrastructure.mq.MediaEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+// 메시지 브로커로 바로 보내지 않고 미디어 변경과 같은 트랜잭션에서 outbox에 기록 (실제 전송은 MediaOutboxRelayService)
 @Component
 public class MediaMessageRelay {
 
-    private final MediaEventPublisher mediaEventPublisher;
+    private final MediaOutboxRepository mediaOutboxRepository;
 
-    public MediaMessageRelay(MediaEventPublisher mediaEventPublisher) {
-        this.mediaEventPublisher = mediaEventPublisher;
+    public MediaMessageRelay(MediaOutboxRepository mediaOutboxRepository) {
+        this.mediaOutboxRepository = mediaOutboxRepository;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(MediaChangedEvent event) {
-        switch (event.changeType()) {
-            case CREATED -> mediaEventPublisher.publishMediaUpload(event.mediaId());
-            case DELETED -> mediaEventPublisher.publishMediaDelete(event.mediaId());
-        }
+        mediaOutboxRepository.save(MediaOutbox.from(event));
     }
 }
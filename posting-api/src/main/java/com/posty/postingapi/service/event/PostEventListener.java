@@ -1,6 +1,7 @@
 package com.posty.postingapi.service.event;
 
 import com.posty.postingapi.domain.post.event.PostChangedEvent;
+import com.posty.postingapi.infrastructure.cache.PostDetailCacheManager;
 import com.posty.postingapi.infrastructure.cache.WriterCacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -10,13 +11,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class PostEventListener {
 
     private final WriterCacheManager writerCacheManager;
+    private final PostDetailCacheManager postDetailCacheManager;
 
-    public PostEventListener(WriterCacheManager writerCacheManager) {
+    public PostEventListener(WriterCacheManager writerCacheManager, PostDetailCacheManager postDetailCacheManager) {
         this.writerCacheManager = writerCacheManager;
+        this.postDetailCacheManager = postDetailCacheManager;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(PostChangedEvent event) {
         writerCacheManager.clearWritersOfPosts(event.postId(), event.seriesId());
+        postDetailCacheManager.clearPostDetail(event.postId());
     }
 }
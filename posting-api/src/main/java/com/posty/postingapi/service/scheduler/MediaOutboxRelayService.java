@@ -0,0 +1,60 @@
+package com.posty.postingapi.service.scheduler;
+
+import com.posty.postingapi.domain.post.MediaOutbox;
+import com.posty.postingapi.domain.post.MediaOutboxRepository;
+import com.posty.postingapi.infrastructure.mq.MediaEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jms.JmsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class MediaOutboxRelayService {
+
+    private final MediaOutboxRepository mediaOutboxRepository;
+    private final MediaEventPublisher mediaEventPublisher;
+
+    public MediaOutboxRelayService(
+            MediaOutboxRepository mediaOutboxRepository,
+            MediaEventPublisher mediaEventPublisher
+    ) {
+        this.mediaOutboxRepository = mediaOutboxRepository;
+        this.mediaEventPublisher = mediaEventPublisher;
+    }
+
+    /**
+     * 대기 중인 메시지를 오래된 순으로 최대 batchSize개 전송하고, 전송된 메시지를 outbox에서 삭제한다.
+     * <p>
+     * 전송 후 삭제 전에 중단되면 다음 실행에서 다시 전송되므로 최소 한 번(at-least-once) 전달된다.
+     *
+     * @return 전송된 메시지 수 (브로커 오류로 중단되면 그 전까지 전송된 수)
+     */
+    @Transactional
+    public int relayPendingMessages(int batchSize) {
+        List<MediaOutbox> messages = mediaOutboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        for (MediaOutbox message : messages) {
+            try {
+                switch (message.getChangeType()) {
+                    case CREATED -> mediaEventPublisher.publishMediaUpload(message.getMediaId());
+                    case DELETED -> mediaEventPublisher.publishMediaDelete(message.getMediaId());
+                }
+            } catch (JmsException e) {
+                log.warn("Failed to relay media outbox message {}, will retry on next run", message.getId(), e);
+                break;
+            }
+            sentIds.add(message.getId());
+        }
+
+        if (!sentIds.isEmpty()) {
+            mediaOutboxRepository.deleteAllByIdInBatch(sentIds);
+        }
+        return sentIds.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.posty.postingapi.aspect;
+
+import com.posty.postingapi.properties.AccessLogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogSamplerTest {
+
+    private AccessLogSampler createSampler(double defaultRate, String pattern, double endpointRate) {
+        AccessLogProperties.EndpointProperties endpoint = new AccessLogProperties.EndpointProperties();
+        endpoint.setPattern(pattern);
+        endpoint.setSampleRate(endpointRate);
+
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setSampleRate(defaultRate);
+        properties.setEndpoints(List.of(endpoint));
+        return new AccessLogSampler(properties);
+    }
+
+    @Test
+    @DisplayName("경로별 비율 적용 - 일치하는 경로만 제외")
+    void sample_EndpointRate() {
+        // given
+        AccessLogSampler sampler = createSampler(1.0, "/posts/**", 0.0);
+        MockHttpServletRequest postRequest = new MockHttpServletRequest("GET", "/posts/1");
+        MockHttpServletRequest accountRequest = new MockHttpServletRequest("GET", "/accounts/1");
+
+        // when
+        boolean postSampled = sampler.sample(postRequest);
+        boolean accountSampled = sampler.sample(accountRequest);
+
+        // then
+        assertThat(postSampled).isFalse();
+        assertThat(sampler.isSampled(postRequest)).isFalse();
+        assertThat(accountSampled).isTrue();
+        assertThat(sampler.isSampled(accountRequest)).isTrue();
+    }
+
+    @Test
+    @DisplayName("샘플링을 거치지 않은 요청 - 기록 대상")
+    void isSampled_NotDecided() {
+        // given
+        AccessLogSampler sampler = createSampler(0.0, "/posts/**", 0.0);
+
+        // when & then
+        assertThat(sampler.isSampled(new MockHttpServletRequest("GET", "/posts/1"))).isTrue();
+    }
+}
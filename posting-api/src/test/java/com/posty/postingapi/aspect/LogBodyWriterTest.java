@@ -0,0 +1,83 @@
+package com.posty.postingapi.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.properties.AccessLogProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogBodyWriterTest {
+
+    private LogBodyWriter logBodyWriter;
+
+    @BeforeEach
+    void setUp() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setMaxBodySize(100);
+        properties.setMaskedFields(List.of("password", "accessToken"));
+
+        logBodyWriter = new LogBodyWriter(new ObjectMapper(), properties);
+    }
+
+    record TokenResponse(String accessToken, long expiresIn, Map<String, Object> account) {
+    }
+
+    @Test
+    @DisplayName("객체 직렬화 - 민감한 필드는 중첩된 객체에서도 가림")
+    void write_MasksSensitiveFields() {
+        // given
+        TokenResponse response = new TokenResponse("secret-token", 600, Map.of("password", 1234));
+
+        // when
+        String body = logBodyWriter.write(response);
+
+        // then
+        assertThat(body).isEqualTo("{\"accessToken\":\"****\",\"expiresIn\":600,\"account\":{\"password\":\"****\"}}");
+    }
+
+    @Test
+    @DisplayName("원본 JSON - 필드 이름의 대소문자와 관계없이 가림")
+    void writeRaw_MasksSensitiveFields() {
+        // given
+        byte[] content = "{\"email\":\"a@b.com\",\"Password\":\"p@ss\\\"word\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String body = logBodyWriter.writeRaw(content, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(body).isEqualTo("{\"email\":\"a@b.com\",\"Password\":\"****\"}");
+    }
+
+    @Test
+    @DisplayName("최대 길이 초과 - 잘라서 기록")
+    void write_Truncated() {
+        // given
+        List<String> values = List.of("a".repeat(60), "b".repeat(60));
+
+        // when
+        String body = logBodyWriter.write(values);
+
+        // then
+        assertThat(body).hasSize(100 + "...(truncated)".length());
+        assertThat(body).startsWith("[\"" + "a".repeat(60)).endsWith("...(truncated)");
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 본문 - 내용을 남기지 않음")
+    void writeRaw_NonJson() {
+        // given
+        byte[] content = "password=secret&email=a".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String body = logBodyWriter.writeRaw(content, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(body).isEqualTo("Non-JSON body (23 bytes)");
+    }
+}
@@ -2,6 +2,7 @@ package com.posty.postingapi.aspect;
 
 import com.posty.postingapi.controller.AccountController;
 import com.posty.postingapi.dto.account.AccountDetailResponse;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.service.application.AccountService;
 import com.posty.postingapi.support.TestSecurityConfig;
@@ -33,7 +34,16 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
-@Import({RequestLogger.class, ResponseLogger.class, TestSecurityConfig.class, TestTimeConfig.class, ApiProperties.class})
+@Import({
+        RequestLogger.class,
+        ResponseLogger.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class,
+        TestSecurityConfig.class,
+        TestTimeConfig.class,
+        ApiProperties.class,
+        AccessLogProperties.class
+})
 @EnableAspectJAutoProxy
 class LoggingTest {
 
@@ -0,0 +1,102 @@
+package com.posty.postingapi.config;
+
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.properties.AccessLogProperties;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingRequestFilterTest {
+
+    private CachingRequestFilter createFilter(double sampleRate, List<String> paths) {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setSampleRate(sampleRate);
+        properties.getBodyCaching().setPaths(paths);
+        properties.getBodyCaching().setContentTypes(List.of(MediaType.APPLICATION_JSON_VALUE));
+        properties.getBodyCaching().setMaxSize(16);
+
+        return new CachingRequestFilter(new AccessLogSampler(properties), properties);
+    }
+
+    private MockHttpServletRequest createRequest(String path, String contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType(contentType);
+        request.setContent("{\"name\":\"a very long value\"}".getBytes());
+        return request;
+    }
+
+    @Test
+    @DisplayName("JSON 요청 - maxSize까지만 캐싱하고 응답은 감싸지 않음")
+    void doFilter_JsonRequest() throws ServletException, IOException {
+        // given
+        CachingRequestFilter filter = createFilter(1.0, List.of());
+        MockHttpServletRequest request = createRequest("/auth/token", "application/json;charset=UTF-8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+        chain.getRequest().getInputStream().readAllBytes();
+
+        // then
+        assertThat(chain.getRequest()).isInstanceOf(ContentCachingRequestWrapper.class);
+        assertThat(((ContentCachingRequestWrapper) chain.getRequest()).getContentAsByteArray()).hasSize(16);
+        assertThat(chain.getResponse()).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 요청 - 캐싱하지 않음")
+    void doFilter_NonJsonRequest() throws ServletException, IOException {
+        // given
+        CachingRequestFilter filter = createFilter(1.0, List.of());
+        MockHttpServletRequest request = createRequest("/auth/token", MediaType.MULTIPART_FORM_DATA_VALUE);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 경로 - 캐싱하지 않음")
+    void doFilter_PathNotMatched() throws ServletException, IOException {
+        // given
+        CachingRequestFilter filter = createFilter(1.0, List.of("/auth/**"));
+        MockHttpServletRequest request = createRequest("/posts", MediaType.APPLICATION_JSON_VALUE);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("샘플링에서 빠진 요청 - 캐싱하지 않고 요청 로그에서도 같은 결정 사용")
+    void doFilter_NotSampled() throws ServletException, IOException {
+        // given
+        CachingRequestFilter filter = createFilter(0.0, List.of());
+        MockHttpServletRequest request = createRequest("/auth/token", MediaType.APPLICATION_JSON_VALUE);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(new AccessLogSampler(new AccessLogProperties()).sample(request)).isFalse();
+    }
+}
@@ -2,10 +2,13 @@ package com.posty.postingapi.controller;
 
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.aspect.LogBodyWriter;
 import com.posty.postingapi.dto.account.AccountCreateRequest;
 import com.posty.postingapi.dto.account.AccountDeleteResponse;
 import com.posty.postingapi.dto.account.AccountDetailResponse;
 import com.posty.postingapi.dto.account.AccountUpdateRequest;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.service.application.AccountService;
 import com.posty.postingapi.support.TestSecurityConfig;
@@ -28,7 +31,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AccountController.class)
-@Import({TestSecurityConfig.class, TestTimeConfig.class, ApiProperties.class})
+@Import({
+        TestSecurityConfig.class,
+        TestTimeConfig.class,
+        ApiProperties.class,
+        AccessLogProperties.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class
+})
 class AccountControllerTest {
 
     @Autowired
@@ -1,7 +1,10 @@
 package com.posty.postingapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.aspect.LogBodyWriter;
 import com.posty.postingapi.dto.auth.*;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.service.application.AuthService;
 import com.posty.postingapi.support.TestSecurityConfig;
@@ -25,7 +28,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
-@Import({TestSecurityConfig.class, TestTimeConfig.class, ApiProperties.class})
+@Import({
+        TestSecurityConfig.class,
+        TestTimeConfig.class,
+        ApiProperties.class,
+        AccessLogProperties.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class
+})
 class AuthControllerTest {
 
     @Autowired
@@ -1,9 +1,12 @@
 package com.posty.postingapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.aspect.LogBodyWriter;
 import com.posty.postingapi.dto.comment.CommentCreateRequest;
 import com.posty.postingapi.dto.comment.CommentDetailResponse;
 import com.posty.postingapi.dto.comment.CommentUpdateRequest;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.service.application.CommentService;
 import com.posty.postingapi.support.TestSecurityConfig;
@@ -29,7 +32,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentController.class)
-@Import({TestSecurityConfig.class, TestTimeConfig.class, ApiProperties.class})
+@Import({
+        TestSecurityConfig.class,
+        TestTimeConfig.class,
+        ApiProperties.class,
+        AccessLogProperties.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class
+})
 class CommentControllerTest {
 
     @Autowired
@@ -1,7 +1,10 @@
 package com.posty.postingapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.aspect.LogBodyWriter;
 import com.posty.postingapi.dto.post.*;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.service.application.PostService;
 import com.posty.postingapi.support.TestSecurityConfig;
@@ -22,12 +25,20 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PostController.class)
-@Import({TestSecurityConfig.class, TestTimeConfig.class, ApiProperties.class})
+@Import({
+        TestSecurityConfig.class,
+        TestTimeConfig.class,
+        ApiProperties.class,
+        AccessLogProperties.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class
+})
 class PostControllerTest {
 
     @Autowired
@@ -56,6 +67,16 @@ class PostControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("포스트 블록 커서 조회 API 실패 - 최대 개수 초과")
+    void getPostBlocks_SizeTooLarge() throws Exception {
+        // when & then
+        mockMvc.perform(get("/posts/{postId}/blocks", 1L)
+                        .param("size", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(postService);
+    }
+
     @Test
     @DisplayName("포스트 생성 API 성공")
     void createPost_Success() throws Exception {
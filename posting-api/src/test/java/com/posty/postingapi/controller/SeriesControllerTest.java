@@ -1,9 +1,12 @@
 package com.posty.postingapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.aspect.LogBodyWriter;
 import com.posty.postingapi.dto.series.SeriesCreateRequest;
 import com.posty.postingapi.dto.series.SeriesDetailResponse;
 import com.posty.postingapi.dto.series.SeriesUpdateRequest;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
 import com.posty.postingapi.service.application.SeriesService;
 import com.posty.postingapi.support.TestSecurityConfig;
@@ -30,7 +33,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SeriesController.class)
-@Import({TestSecurityConfig.class, TestTimeConfig.class, ApiProperties.class})
+@Import({
+        TestSecurityConfig.class,
+        TestTimeConfig.class,
+        ApiProperties.class,
+        AccessLogProperties.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class
+})
 class SeriesControllerTest {
 
     @Autowired
@@ -0,0 +1,71 @@
+package com.posty.postingapi.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = createJsonSerializer();
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(jsonSerializer);
+
+    private static GenericJackson2JsonRedisSerializer createJsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    @Test
+    @DisplayName("단순 값 직렬화/역직렬화 테스트")
+    void roundTrip_SimpleValues() {
+        assertThat(serializer.deserialize(serializer.serialize(123456789L))).isEqualTo(123456789L);
+        assertThat(serializer.deserialize(serializer.serialize(-1L))).isEqualTo(-1L);
+        assertThat(serializer.deserialize(serializer.serialize(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+        assertThat(serializer.deserialize(serializer.serialize(42))).isEqualTo(42);
+        assertThat(serializer.deserialize(serializer.serialize("작가"))).isEqualTo("작가");
+        assertThat(serializer.deserialize(serializer.serialize(true))).isEqualTo(true);
+        assertThat(serializer.serialize(7L)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("long 배열 직렬화/역직렬화 테스트")
+    void roundTrip_LongArray() {
+        long[] writerIds = {3L, 15L, 1024L, 1_000_000L};
+
+        byte[] bytes = serializer.serialize(writerIds);
+
+        assertThat(serializer.deserialize(bytes)).isEqualTo(writerIds);
+        assertThat(bytes.length).isLessThan(writerIds.length * Long.BYTES);
+        assertThat(serializer.deserialize(serializer.serialize(new long[0]))).isEqualTo(new long[0]);
+    }
+
+    @Test
+    @DisplayName("그 외 타입은 JSON으로 직렬화 테스트")
+    void roundTrip_JsonFallback() {
+        List<String> value = new ArrayList<>(List.of("a", "b"));
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 값 읽기 테스트")
+    void deserialize_LegacyJson() {
+        assertThat(serializer.deserialize(jsonSerializer.serialize("name"))).isEqualTo("name");
+        assertThat(serializer.deserialize(jsonSerializer.serialize(10L))).isEqualTo(10);
+        assertThat(serializer.deserialize(jsonSerializer.serialize(true))).isEqualTo(true);
+        // INCR로 만들어진 카운터 값
+        assertThat(serializer.deserialize("3".getBytes(StandardCharsets.UTF_8))).isEqualTo(3);
+    }
+}
@@ -0,0 +1,114 @@
+package com.posty.postingapi.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.domain.post.PostBlock;
+import com.posty.postingapi.dto.account.AccountSummary;
+import com.posty.postingapi.dto.post.PostBlockResponse;
+import com.posty.postingapi.dto.post.PostDetailResponse;
+import com.posty.postingapi.dto.post.TextContentResponse;
+import com.posty.postingapi.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailCacheManagerTest {
+
+    private static final long POST_ID = 1L;
+    private static final long WRITER_ID = 10L;
+
+    @Mock
+    private RedisManager redisManager;
+
+    @Mock
+    private WriterCacheManager writerCacheManager;
+
+    private PostDetailCacheManager postDetailCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getPostDetail().setLocalMaxSize(100);
+        cacheProperties.getPostDetail().setLocalTtl(Duration.ofMinutes(1));
+        cacheProperties.getPostDetail().setRemoteTtl(Duration.ofMinutes(10));
+
+        given(redisManager.createKey("post", "1", "detail")).willReturn("post:1:detail");
+
+        postDetailCacheManager = new PostDetailCacheManager(
+                redisManager,
+                writerCacheManager,
+                new ObjectMapper().findAndRegisterModules(),
+                cacheProperties
+        );
+    }
+
+    private PostDetailResponse createResponse(String writerName) {
+        PostBlockResponse block = new PostBlockResponse(
+                100L, 1, new AccountSummary(WRITER_ID, writerName), new TextContentResponse("text"), null, null
+        );
+        return new PostDetailResponse(
+                POST_ID, "Title", List.of(writerName), null, null,
+                new PageImpl<>(List.of(block), PageRequest.of(0, 10, PostBlock.SORT), 1)
+        );
+    }
+
+    @Test
+    @DisplayName("계정 이름 변경 - 캐시된 상세정보에도 바로 반영")
+    void loadPostDetail_ResolvesWriterNamesOnRead() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        given(writerCacheManager.loadWriterIdsOfPosts(POST_ID)).willReturn(List.of(WRITER_ID));
+        given(writerCacheManager.loadAccountNameMap(Set.of(WRITER_ID)))
+                .willReturn(Map.of(WRITER_ID, "Old"))
+                .willReturn(Map.of(WRITER_ID, "New"));
+
+        // when
+        PostDetailResponse first = postDetailCacheManager.loadPostDetail(POST_ID, () -> {
+            loads.incrementAndGet();
+            return createResponse("Old");
+        });
+        PostDetailResponse second = postDetailCacheManager.loadPostDetail(POST_ID, () -> {
+            loads.incrementAndGet();
+            return createResponse("Old");
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(first.getWriters()).containsExactly("Old");
+        assertThat(second.getWriters()).containsExactly("New");
+        assertThat(second.getBlocks().getContent().get(0).getWriter().getName()).isEqualTo("New");
+        verify(redisManager).saveValueWithTtl(eq("post:1:detail"), argThat(json -> !String.valueOf(json).contains("Old")), any());
+    }
+
+    @Test
+    @DisplayName("작성자 이름을 저장하던 이전 형식 - 다시 불러옴")
+    void loadPostDetail_LegacyRemoteValue() {
+        // given
+        String legacy = "{\"id\":1,\"title\":\"Title\",\"writers\":[\"Old\"],\"page\":0,\"size\":10,\"totalBlocks\":0,\"blocks\":[]}";
+        given(redisManager.getValue("post:1:detail", String.class)).willReturn(legacy);
+        given(writerCacheManager.loadWriterIdsOfPosts(POST_ID)).willReturn(List.of(WRITER_ID));
+        given(writerCacheManager.loadAccountNameMap(anySet())).willReturn(Map.of(WRITER_ID, "New"));
+
+        // when
+        PostDetailResponse response = postDetailCacheManager.loadPostDetail(POST_ID, () -> createResponse("New"));
+
+        // then
+        assertThat(response.getWriters()).containsExactly("New");
+    }
+}
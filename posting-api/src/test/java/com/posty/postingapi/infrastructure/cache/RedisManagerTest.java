@@ -0,0 +1,235 @@
+package com.posty.postingapi.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisManagerTest {
+
+    private static final String KEY = "key";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ListOperations<String, Object> listOperations;
+
+    private RedisManager redisManager;
+
+    @BeforeEach
+    void setUp() {
+        redisManager = new RedisManager(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("증가 - 키와 TTL(ms)을 스크립트 하나로 전달하고 증가된 값 반환")
+    @SuppressWarnings("unchecked")
+    void incrementWithTtlIfAbsent() {
+        // given
+        given(redisTemplate.execute(
+                eq(RedisManager.INCREMENT_WITH_TTL_SCRIPT),
+                any(RedisSerializer.class),
+                any(RedisSerializer.class),
+                eq(List.of(KEY)),
+                eq("60000")
+        ))
+                .willReturn(3L);
+
+        // when
+        long value = redisManager.incrementWithTtlIfAbsent(KEY, Duration.ofMinutes(1));
+
+        // then
+        assertThat(value).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("증가 - 스크립트 결과가 없으면 0")
+    void incrementWithTtlIfAbsent_NoResult() {
+        // when
+        long value = redisManager.incrementWithTtlIfAbsent(KEY, Duration.ofMinutes(1));
+
+        // then
+        assertThat(value).isZero();
+    }
+
+    @Test
+    @DisplayName("리스트 저장 - 기존 리스트 교체를 스크립트 한 번으로 요청")
+    void saveList() {
+        // when
+        redisManager.saveList(KEY, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(scriptArguments(RedisManager.REPLACE_LIST_SCRIPT)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("리스트 저장 - 빈 리스트는 자리 표시 값 하나로 저장")
+    void saveList_Empty() {
+        // when
+        redisManager.saveList(KEY, List.of());
+
+        // then
+        assertThat(scriptArguments(RedisManager.REPLACE_LIST_SCRIPT)).containsExactly("__EMPTY__");
+    }
+
+    @Test
+    @DisplayName("리스트 저장 - 큰 리스트도 나누지 않고 한 번에 보내며 스크립트 안에서 나누어 RPUSH")
+    void saveList_Large() {
+        // given
+        List<Long> values = LongStream.rangeClosed(1, RedisManager.REPLACE_LIST_CHUNK_SIZE * 10L + 1).boxed().toList();
+
+        // when
+        redisManager.saveList(KEY, values);
+
+        // then
+        assertThat(scriptArguments(RedisManager.REPLACE_LIST_SCRIPT)).containsExactlyElementsOf(values);
+        assertThat(RedisManager.REPLACE_LIST_SCRIPT.getScriptAsString())
+                .contains("unpack(ARGV, i, math.min(i + " + (RedisManager.REPLACE_LIST_CHUNK_SIZE - 1) + ", #ARGV))");
+    }
+
+    @Test
+    @DisplayName("리스트 조회 - 키가 없으면 null, 빈 리스트로 저장된 경우 빈 리스트")
+    void getListOrNull() {
+        // given
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.range("missing", 0, -1)).willReturn(List.of());
+        given(listOperations.range("empty", 0, -1)).willReturn(List.of("__EMPTY__"));
+        given(listOperations.range("ids", 0, -1)).willReturn(List.of(1, 2L));
+
+        // when & then
+        assertThat(redisManager.getListOrNull("missing", Long.class)).isNull();
+        assertThat(redisManager.getListOrNull("empty", Long.class)).isEmpty();
+        assertThat(redisManager.getListOrNull("ids", Long.class)).containsExactly(1L, 2L);
+        assertThat(redisManager.getList("missing", Long.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 배열 저장 - 리스트가 아닌 하나의 값으로 저장")
+    void saveLongArray() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        long[] ids = {3L, 1L, 2L};
+
+        // when
+        redisManager.saveLongArray(KEY, ids);
+
+        // then
+        verify(valueOperations).set(KEY, ids);
+    }
+
+    @Test
+    @DisplayName("ID 배열 조회 - 배열, 이전 형식의 목록 값, 없는 키")
+    void getLongArrayOrNull() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("array")).willReturn(new long[]{1L, 2L});
+        given(valueOperations.get("collection")).willReturn(List.of(1, 2L));
+
+        // when & then
+        assertThat(redisManager.getLongArrayOrNull("array")).containsExactly(1L, 2L);
+        assertThat(redisManager.getLongArrayOrNull("collection")).containsExactly(1L, 2L);
+        assertThat(redisManager.getLongArrayOrNull("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("ID 배열 조회 - 이전 형식(리스트 자료형)으로 저장된 키는 미스로 처리")
+    void getLongArrayOrNull_LegacyListType() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(KEY)).willThrow(new RedisSystemException("WRONGTYPE", null));
+
+        // when
+        long[] ids = redisManager.getLongArrayOrNull(KEY);
+
+        // then
+        assertThat(ids).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 값 저장 - TTL이 있으면 키마다 TTL을 지정하여 파이프라인으로 전송")
+    @SuppressWarnings("unchecked")
+    void saveValuesWithTtl() {
+        // given
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("a", 1L);
+        values.put("b", 2L);
+
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        given(operations.opsForValue()).willReturn(valueOperations);
+
+        // when
+        redisManager.saveValuesWithTtl(values, Duration.ofSeconds(10));
+
+        // then
+        ArgumentCaptor<SessionCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callbackCaptor.capture());
+        callbackCaptor.getValue().execute(operations);
+
+        verify(valueOperations).set("a", 1L, 10000L, TimeUnit.MILLISECONDS);
+        verify(valueOperations).set("b", 2L, 10000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("여러 값 저장 - TTL이 없으면 MSET 한 번으로 저장")
+    void saveValuesWithTtl_NoTtl() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        Map<String, Object> values = Map.of("a", 1L);
+
+        // when
+        redisManager.saveValuesWithTtl(values, null);
+
+        // then
+        verify(valueOperations).multiSet(values);
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    // 스크립트 실행 시 KEYS 뒤에 전달된 ARGV 값
+    private List<Object> scriptArguments(RedisScript<?> script) {
+        Invocation invocation = mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(call -> call.getMethod().getName().equals("execute"))
+                .filter(call -> call.getArgument(0) == script)
+                .reduce((first, second) -> {
+                    throw new AssertionError("Script executed more than once");
+                })
+                .orElseThrow(() -> new AssertionError("Script not executed"));
+
+        Object[] arguments = invocation.getArguments();
+        assertThat(arguments[1]).isEqualTo(List.of(KEY));
+        return Arrays.asList(arguments).subList(2, arguments.length);
+    }
+}
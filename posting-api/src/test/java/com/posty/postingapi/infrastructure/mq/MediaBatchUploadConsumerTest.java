@@ -0,0 +1,237 @@
+package com.posty.postingapi.infrastructure.mq;
+
+import com.posty.postingapi.domain.post.Media;
+import com.posty.postingapi.domain.post.MediaStatus;
+import com.posty.postingapi.domain.post.MediaType;
+import com.posty.postingapi.error.FileCommunicationException;
+import com.posty.postingapi.error.ResourceNotFoundException;
+import com.posty.postingapi.infrastructure.file.FileApiClient;
+import com.posty.postingapi.infrastructure.file.FileUploadRequest;
+import com.posty.postingapi.infrastructure.file.FileUploadResponse;
+import com.posty.postingapi.properties.MediaProperties;
+import com.posty.postingapi.service.application.MediaService;
+import com.posty.postingapi.service.application.MediaUploadJobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaBatchUploadConsumerTest {
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MessageConsumer messageConsumer;
+
+    @Mock
+    private MediaService mediaService;
+
+    @Mock
+    private MediaUploadJobService mediaUploadJobService;
+
+    @Mock
+    private FileApiClient fileApiClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MediaBatchUploadConsumer consumer;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        MediaProperties mediaProperties = new MediaProperties();
+        mediaProperties.setUploadQueueName("media-upload-queue");
+        mediaProperties.getListener().getBatch().setSize(10);
+        mediaProperties.getListener().getBatch().setReceiveTimeout(Duration.ofMillis(10));
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        consumer = new MediaBatchUploadConsumer(
+                connectionFactory, mediaService, mediaUploadJobService, fileApiClient,
+                new MediaQueueMetrics(meterRegistry), Runnable::run, mediaProperties
+        );
+
+        given(connectionFactory.createConnection()).willReturn(connection);
+        given(connection.createSession(true, Session.SESSION_TRANSACTED)).willReturn(session);
+        given(session.createConsumer(any())).willReturn(messageConsumer);
+    }
+
+    private ObjectMessage message(Long mediaId) throws JMSException {
+        ObjectMessage message = mock(ObjectMessage.class);
+        given(message.getObject()).willReturn(mediaId);
+        return message;
+    }
+
+    private Media waitingMedia(Long id) {
+        return Media.builder().id(id).mediaType(MediaType.IMAGE).originUrl("https://example.com/" + id)
+                .status(MediaStatus.WAITING_UPLOAD).build();
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 한 번에 조회 후 업로드, 실패한 미디어는 실패 처리 후 세션 커밋")
+    void consumeBatch_UploadAndCommit() throws Exception {
+        // given
+        ObjectMessage first = message(1L);
+        ObjectMessage second = message(2L);
+        ObjectMessage third = message(3L);
+        given(messageConsumer.receive(anyLong())).willReturn(first);
+        given(messageConsumer.receiveNoWait()).willReturn(second, third, null);
+
+        given(mediaService.findMediaWaitingUpload(Set.of(1L, 2L, 3L)))
+                .willReturn(List.of(waitingMedia(1L), waitingMedia(2L)));
+
+        FileUploadResponse response = new FileUploadResponse("https://files/1", "1.png");
+        given(fileApiClient.uploadAsync(new FileUploadRequest(MediaType.IMAGE, "https://example.com/1", "1")))
+                .willReturn(CompletableFuture.completedFuture(response));
+        given(fileApiClient.uploadAsync(new FileUploadRequest(MediaType.IMAGE, "https://example.com/2", "2")))
+                .willReturn(CompletableFuture.failedFuture(new FileCommunicationException(HttpMethod.POST, new RuntimeException("down"))));
+
+        // when
+        int consumed = consumer.consumeBatch();
+
+        // then
+        assertThat(consumed).isEqualTo(3);
+        verify(mediaService).completeUpload(1L, response);
+        verify(mediaService).failToUploadMedia(2L);
+        verify(session).commit();
+        assertThat(meterRegistry.get("media.queue.processing").tag("result", "skipped").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 같은 원본으로 업로드된 파일이 있으면 다시 업로드하지 않음")
+    void consumeBatch_ReuseStoredFile() throws Exception {
+        // given
+        ObjectMessage first = message(1L);
+        given(messageConsumer.receive(anyLong())).willReturn(first);
+        given(messageConsumer.receiveNoWait()).willReturn(null);
+
+        Media media = waitingMedia(1L);
+        given(mediaService.findMediaWaitingUpload(Set.of(1L))).willReturn(List.of(media));
+
+        FileUploadResponse response = new FileUploadResponse("https://files/abc.png", "abc.png");
+        given(mediaService.reuseStoredFile(media)).willReturn(Optional.of(response));
+
+        // when
+        int consumed = consumer.consumeBatch();
+
+        // then
+        assertThat(consumed).isEqualTo(1);
+        verify(mediaService).completeUpload(1L, response);
+        verifyNoInteractions(fileApiClient);
+        verify(session).commit();
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 재사용 확인 중 오류가 나도 해당 미디어만 새로 업로드하고 세션 커밋")
+    void consumeBatch_ReuseCheckFails() throws Exception {
+        // given
+        ObjectMessage first = message(1L);
+        given(messageConsumer.receive(anyLong())).willReturn(first);
+        given(messageConsumer.receiveNoWait()).willReturn(null);
+
+        Media media = waitingMedia(1L);
+        given(mediaService.findMediaWaitingUpload(Set.of(1L))).willReturn(List.of(media));
+        given(mediaService.reuseStoredFile(media)).willThrow(new QueryTimeoutException("timeout"));
+
+        FileUploadResponse response = new FileUploadResponse("https://files/1", "1.png");
+        given(fileApiClient.uploadAsync(new FileUploadRequest(MediaType.IMAGE, "https://example.com/1", "1")))
+                .willReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        int consumed = consumer.consumeBatch();
+
+        // then
+        assertThat(consumed).isEqualTo(1);
+        verify(mediaService).completeUpload(1L, response);
+        verify(session).commit();
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 결과 반영에 실패하면 추가된 참조를 해제")
+    void consumeBatch_CompleteUploadFails() throws Exception {
+        // given
+        ObjectMessage first = message(1L);
+        given(messageConsumer.receive(anyLong())).willReturn(first);
+        given(messageConsumer.receiveNoWait()).willReturn(null);
+
+        Media media = waitingMedia(1L);
+        given(mediaService.findMediaWaitingUpload(Set.of(1L))).willReturn(List.of(media));
+
+        FileUploadResponse response = new FileUploadResponse("https://files/abc.png", "abc.png");
+        given(mediaService.reuseStoredFile(media)).willReturn(Optional.of(response));
+        willThrow(new ResourceNotFoundException("Media", 1L)).given(mediaService).completeUpload(1L, response);
+
+        // when
+        int consumed = consumer.consumeBatch();
+
+        // then
+        assertThat(consumed).isEqualTo(1);
+        verify(mediaService).releaseUnappliedUpload(1L, response);
+        verify(session).commit();
+        assertThat(meterRegistry.get("media.queue.processing").tag("result", "skipped").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 작업 모드에서는 업로드 작업만 요청하고 결과는 나중에 반영")
+    void consumeBatch_UploadJob() throws Exception {
+        // given
+        ObjectMessage first = message(1L);
+        given(messageConsumer.receive(anyLong())).willReturn(first);
+        given(messageConsumer.receiveNoWait()).willReturn(null);
+
+        Media media = waitingMedia(1L);
+        given(mediaService.findMediaWaitingUpload(Set.of(1L))).willReturn(List.of(media));
+        given(mediaService.reuseStoredFile(media)).willReturn(Optional.empty());
+        given(mediaUploadJobService.isEnabled()).willReturn(true);
+        given(mediaUploadJobService.submitAsync(media)).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int consumed = consumer.consumeBatch();
+
+        // then
+        assertThat(consumed).isEqualTo(1);
+        verify(mediaService, never()).completeUpload(any(), any());
+        verifyNoInteractions(fileApiClient);
+        verify(session).commit();
+        assertThat(meterRegistry.get("media.queue.processing").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 업로드 - 받은 메시지가 없으면 아무것도 하지 않음")
+    void consumeBatch_Empty() throws Exception {
+        // given
+        given(messageConsumer.receive(anyLong())).willReturn(null);
+
+        // when
+        int consumed = consumer.consumeBatch();
+
+        // then
+        assertThat(consumed).isZero();
+        verifyNoInteractions(mediaService, fileApiClient);
+        verify(session, never()).commit();
+    }
+}
@@ -0,0 +1,156 @@
+package com.posty.postingapi.security.apikey;
+
+import com.posty.postingapi.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyVerifierTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyVerifier apiKeyVerifier;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getApiKey().setMaxSize(100);
+        cacheProperties.getApiKey().setNegativeMaxSize(10);
+        cacheProperties.getApiKey().setNegativeTtl(Duration.ofSeconds(30));
+        cacheProperties.getApiKey().setRefreshInterval(Duration.ofMinutes(5));
+
+        apiKeyVerifier = new ApiKeyVerifier(apiKeyRepository, CLOCK, cacheProperties);
+    }
+
+    private ApiKeyValidity validity(String keyHash, LocalDateTime startsAt, LocalDateTime expiresAt) {
+        return new ApiKeyValidity(keyHash, startsAt, expiresAt);
+    }
+
+    @Test
+    @DisplayName("미리 읽은 키는 DB 조회 없이 검증")
+    void isValid_Preloaded() {
+        // given
+        given(apiKeyRepository.findAllUnexpired(NOW))
+                .willReturn(List.of(validity("hash", NOW.minusDays(1), NOW.plusDays(1))));
+        apiKeyVerifier.preload();
+
+        // when
+        boolean valid = apiKeyVerifier.isValid("hash");
+
+        // then
+        assertThat(valid).isTrue();
+        verify(apiKeyRepository, never()).findValidity(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 키는 한 번만 DB에서 확인")
+    void isValid_LoadedOnce() {
+        // given
+        given(apiKeyRepository.findValidity("hash"))
+                .willReturn(Optional.of(validity("hash", NOW.minusDays(1), NOW.plusDays(1))));
+
+        // when
+        boolean first = apiKeyVerifier.isValid("hash");
+        boolean second = apiKeyVerifier.isValid("hash");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(apiKeyRepository, times(1)).findValidity("hash");
+    }
+
+    @Test
+    @DisplayName("없는 키는 부정 결과를 캐싱")
+    void isValid_NegativeCached() {
+        // given
+        given(apiKeyRepository.findValidity("unknown")).willReturn(Optional.empty());
+
+        // when
+        boolean first = apiKeyVerifier.isValid("unknown");
+        boolean second = apiKeyVerifier.isValid("unknown");
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(apiKeyRepository, times(1)).findValidity("unknown");
+    }
+
+    @Test
+    @DisplayName("없는 키가 몰려도 미리 읽은 키는 캐시에 남음")
+    void isValid_NegativeFloodKeepsValidKeys() {
+        // given
+        given(apiKeyRepository.findAllUnexpired(NOW))
+                .willReturn(List.of(validity("hash", NOW.minusDays(1), NOW.plusDays(1))));
+        given(apiKeyRepository.findValidity(any())).willReturn(Optional.empty());
+        apiKeyVerifier.preload();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            apiKeyVerifier.isValid("random" + i);
+        }
+        boolean valid = apiKeyVerifier.isValid("hash");
+
+        // then
+        assertThat(valid).isTrue();
+        verify(apiKeyRepository, never()).findValidity("hash");
+    }
+
+    @Test
+    @DisplayName("만료되었거나 시작 전인 키는 유효하지 않음")
+    void isValid_OutsideValidPeriod() {
+        // given
+        given(apiKeyRepository.findValidity("expired"))
+                .willReturn(Optional.of(validity("expired", NOW.minusDays(2), NOW.minusDays(1))));
+        given(apiKeyRepository.findValidity("future"))
+                .willReturn(Optional.of(validity("future", NOW.plusDays(1), NOW.plusDays(2))));
+
+        // when & then
+        assertThat(apiKeyVerifier.isValid("expired")).isFalse();
+        assertThat(apiKeyVerifier.isValid("future")).isFalse();
+    }
+
+    @Test
+    @DisplayName("갱신 - 새로 등록된 키는 반영하고 삭제된 키는 제거")
+    void refresh() {
+        // given
+        given(apiKeyRepository.findAllUnexpired(NOW))
+                .willReturn(List.of(validity("removed", NOW.minusDays(1), NOW.plusDays(1))))
+                .willReturn(List.of(validity("added", NOW.minusDays(1), NOW.plusDays(1))));
+        given(apiKeyRepository.findValidity("added")).willReturn(Optional.empty());
+        given(apiKeyRepository.findValidity("removed")).willReturn(Optional.empty());
+
+        apiKeyVerifier.preload();
+        boolean addedBeforeRefresh = apiKeyVerifier.isValid("added");
+
+        // when
+        apiKeyVerifier.refresh();
+
+        // then
+        assertThat(addedBeforeRefresh).isFalse();
+        assertThat(apiKeyVerifier.isValid("added")).isTrue();
+        assertThat(apiKeyVerifier.isValid("removed")).isFalse();
+    }
+}
@@ -1,9 +1,12 @@
 package com.posty.postingapi.security.config;
 
+import com.posty.postingapi.aspect.AccessLogSampler;
+import com.posty.postingapi.aspect.LogBodyWriter;
 import com.posty.postingapi.aspect.ResponseLogger;
 import com.posty.postingapi.error.GlobalExceptionHandler;
+import com.posty.postingapi.properties.AccessLogProperties;
 import com.posty.postingapi.properties.ApiProperties;
-import com.posty.postingapi.security.apikey.ApiKeyRepository;
+import com.posty.postingapi.security.apikey.ApiKeyVerifier;
 import com.posty.postingapi.security.jwt.JwtTokenProvider;
 import com.posty.postingapi.service.application.AccountService;
 import com.posty.postingapi.support.TestTimeConfig;
@@ -19,11 +22,15 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SecurityConfig.class)
@@ -31,6 +38,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         CustomAuthenticationEntryPoint.class,
         ApiProperties.class,
         ResponseLogger.class,
+        AccessLogSampler.class,
+        LogBodyWriter.class,
+        AccessLogProperties.class,
         GlobalExceptionHandler.class,
         TestTimeConfig.class,
         SecurityConfigTest.TestController.class
@@ -48,13 +58,16 @@ class SecurityConfigTest {
 
         @GetMapping("/docs/index.html")
         public String readDocs() { return "ok"; }
+
+        @PostMapping("/media/upload-jobs/1")
+        public String receiveUploadJobResult() { return "ok"; }
     }
 
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
-    private ApiKeyRepository apiKeyRepository;
+    private ApiKeyVerifier apiKeyVerifier;
 
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
@@ -71,10 +84,9 @@ class SecurityConfigTest {
         // given
         String apiKey = "valid-api-key";
         String hashedKey = DigestUtils.sha512Hex(apiKey);
-        given(apiKeyRepository.isValid(hashedKey)).willReturn(true);
+        given(apiKeyVerifier.isValid(hashedKey)).willReturn(true);
 
-        given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-        given(jwtTokenProvider.getClaims(anyString())).willReturn(Jwts.claims().subject("1").build());
+        given(jwtTokenProvider.verify(anyString())).willReturn(Optional.of(Jwts.claims().subject("1").build()));
 
         // when & then
         mockMvc.perform(get("/accounts/1")
@@ -97,7 +109,7 @@ class SecurityConfigTest {
         // given
         String invalidKey = "invalid-key";
         String hashedKey = DigestUtils.sha512Hex(invalidKey);
-        given(apiKeyRepository.isValid(hashedKey)).willReturn(false);
+        given(apiKeyVerifier.isValid(hashedKey)).willReturn(false);
 
         // when & then
         mockMvc.perform(get("/account/1")
@@ -109,12 +121,11 @@ class SecurityConfigTest {
     @DisplayName("JWT 토큰 인증 성공")
     void jwt_Success() throws Exception {
         // given
-        given(apiKeyRepository.isValid(anyString())).willReturn(true);
+        given(apiKeyVerifier.isValid(anyString())).willReturn(true);
 
         String token = "valid-token";
-        given(jwtTokenProvider.validateToken(token)).willReturn(true);
         Claims claims = Jwts.claims().subject("1").build();
-        given(jwtTokenProvider.getClaims(token)).willReturn(claims);
+        given(jwtTokenProvider.verify(token)).willReturn(Optional.of(claims));
 
         // when & then
         mockMvc.perform(get("/accounts/1")
@@ -127,7 +138,7 @@ class SecurityConfigTest {
     @DisplayName("JWT 토큰 누락 시 401 에러")
     void jwt_Missing() throws Exception {
         // given
-        given(apiKeyRepository.isValid(anyString())).willReturn(true);
+        given(apiKeyVerifier.isValid(anyString())).willReturn(true);
 
         // when & then
         mockMvc.perform(get("/account/1")
@@ -139,10 +150,10 @@ class SecurityConfigTest {
     @DisplayName("잘못된 JWT 토큰 사용 시 401 에러")
     void jwt_Invalid() throws Exception {
         // given
-        given(apiKeyRepository.isValid(anyString())).willReturn(true);
+        given(apiKeyVerifier.isValid(anyString())).willReturn(true);
 
         String invalidToken = "invalid-token";
-        given(jwtTokenProvider.validateToken(invalidToken)).willReturn(false);
+        given(jwtTokenProvider.verify(invalidToken)).willReturn(Optional.empty());
 
         // when & then
         mockMvc.perform(get("/account/1")
@@ -157,7 +168,7 @@ class SecurityConfigTest {
         // given
         String apiKey = "valid-api-key";
         String hashedKey = DigestUtils.sha512Hex(apiKey);
-        given(apiKeyRepository.isValid(hashedKey)).willReturn(true);
+        given(apiKeyVerifier.isValid(hashedKey)).willReturn(true);
 
         // when & then
         mockMvc.perform(get("/auth/login")
@@ -172,4 +183,12 @@ class SecurityConfigTest {
         mockMvc.perform(get("/docs/index.html"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("필터 제외 경로 (/media/upload-jobs/*) - 파일 API 콜백은 서명으로 확인하므로 API 키와 JWT 모두 불필요")
+    void filter_ExcludeUploadJobCallbackPath() throws Exception {
+        // when & then
+        mockMvc.perform(post("/media/upload-jobs/1"))
+                .andExpect(status().isOk());
+    }
 }
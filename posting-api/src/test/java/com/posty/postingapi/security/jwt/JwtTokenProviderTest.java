@@ -0,0 +1,96 @@
+package com.posty.postingapi.security.jwt;
+
+import com.posty.postingapi.properties.SecurityProperties;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private SecurityProperties securityProperties;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        securityProperties = new SecurityProperties();
+        securityProperties.getJwt().setAccessExpiry(Duration.ofMinutes(10));
+        securityProperties.getJwt().setRefreshExpiry(Duration.ofDays(1));
+        securityProperties.getJwt().setVerifiedCacheSize(100);
+
+        jwtTokenProvider = new JwtTokenProvider(securityProperties);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - 클레임 반환")
+    void verify_ValidToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(1L, "tester");
+
+        // when
+        Optional<Claims> claims = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("1");
+        assertThat(claims.get().get("name", String.class)).isEqualTo("tester");
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임 반환")
+    void verify_Cached() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(1L, "tester");
+        Claims first = jwtTokenProvider.verify(token).orElseThrow();
+
+        // when
+        Claims second = jwtTokenProvider.verify(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("내용이 변조된 토큰 - 캐시된 토큰의 서명을 붙여도 거부")
+    void verify_TamperedToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(1L, "tester");
+        String otherToken = jwtTokenProvider.createAccessToken(2L, "other");
+        jwtTokenProvider.verify(token);
+
+        // 다른 계정의 내용에 기존 토큰의 서명을 붙임
+        String[] parts = token.split("\\.");
+        String[] otherParts = otherToken.split("\\.");
+        String tampered = parts[0] + "." + otherParts[1] + "." + parts[2];
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰 - 거부")
+    void verify_OtherKey() {
+        // given
+        String token = new JwtTokenProvider(securityProperties).createAccessToken(1L, "tester");
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 거부")
+    void verify_ExpiredToken() {
+        // given
+        securityProperties.getJwt().setAccessExpiry(Duration.ofSeconds(-1));
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(securityProperties);
+        String token = expiredProvider.createAccessToken(1L, "tester");
+
+        // when & then
+        assertThat(expiredProvider.verify(token)).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.posty.postingapi.service.application;
 
+import com.posty.postingapi.common.pagination.KeysetCursor;
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.account.AccountRepository;
 import com.posty.postingapi.domain.comment.Comment;
@@ -9,6 +10,8 @@ import com.posty.postingapi.domain.post.PostRepository;
 import com.posty.postingapi.dto.comment.CommentCreateRequest;
 import com.posty.postingapi.dto.comment.CommentDetailResponse;
 import com.posty.postingapi.dto.comment.CommentUpdateRequest;
+import com.posty.postingapi.dto.common.CursorPage;
+import com.posty.postingapi.error.InvalidCursorException;
 import com.posty.postingapi.error.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -217,4 +221,68 @@ class CommentServiceTest {
         assertThatThrownBy(() -> commentService.getCommentsByAccount(accountId, pageable))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("포스트별 댓글 스크롤 조회 성공 - 다음 페이지 존재")
+    void scrollCommentsByPost_HasNext() {
+        // given
+        Long postId = 1L;
+        Post post = Post.builder().id(postId).title("Post Title").build();
+        Account writer = Account.builder().id(1L).name("Writer").build();
+        List<Comment> fetched = List.of(
+                Comment.builder().id(30L).content("C30").writer(writer).post(post).build(),
+                Comment.builder().id(20L).content("C20").writer(writer).post(post).build(),
+                Comment.builder().id(10L).content("C10").writer(writer).post(post).build()
+        );
+
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(commentRepository.findAllByPostIdBefore(postId, null, 3)).willReturn(fetched);
+
+        // when
+        CursorPage<CommentDetailResponse> result = commentService.scrollCommentsByPost(postId, null, 2, false);
+
+        // then
+        assertThat(result.getContent()).extracting(CommentDetailResponse::getId).containsExactly(30L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(KeysetCursor.ofId(20L).encode());
+        assertThat(result.getTotalElements()).isNull();
+        verify(commentRepository, never()).countByPostId(postId);
+    }
+
+    @Test
+    @DisplayName("계정별 댓글 스크롤 조회 성공 - 마지막 페이지와 전체 개수")
+    void scrollCommentsByAccount_LastPageWithTotal() {
+        // given
+        Long accountId = 1L;
+        Account account = Account.builder().id(accountId).name("Tester").build();
+        Post post = Post.builder().id(1L).title("Post Title").build();
+        Comment comment = Comment.builder().id(5L).content("Comment").writer(account).post(post).build();
+        String cursor = KeysetCursor.ofId(6L).encode();
+
+        given(accountRepository.findNonDeletedById(accountId)).willReturn(Optional.of(account));
+        given(commentRepository.findAllByWriterIdBefore(accountId, 6L, 11)).willReturn(List.of(comment));
+        given(commentRepository.countByWriterId(accountId)).willReturn(3L);
+
+        // when
+        CursorPage<CommentDetailResponse> result = commentService.scrollCommentsByAccount(accountId, cursor, 10, true);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("댓글 스크롤 조회 실패 - 잘못된 커서")
+    void scrollCommentsByPost_InvalidCursor() {
+        // given
+        Long postId = 1L;
+        Post post = Post.builder().id(postId).title("Post Title").build();
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+
+        // when & then
+        assertThatThrownBy(() -> commentService.scrollCommentsByPost(postId, "not-a-cursor!", 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
 }
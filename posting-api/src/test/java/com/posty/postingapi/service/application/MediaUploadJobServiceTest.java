@@ -0,0 +1,205 @@
+package com.posty.postingapi.service.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posty.postingapi.domain.post.Media;
+import com.posty.postingapi.domain.post.MediaStatus;
+import com.posty.postingapi.domain.post.MediaType;
+import com.posty.postingapi.error.FileCommunicationException;
+import com.posty.postingapi.error.InvalidAuthenticationException;
+import com.posty.postingapi.infrastructure.file.FileApiClient;
+import com.posty.postingapi.infrastructure.file.FileUploadResponse;
+import com.posty.postingapi.infrastructure.file.UploadJobCallbackVerifier;
+import com.posty.postingapi.infrastructure.file.UploadJobRequest;
+import com.posty.postingapi.infrastructure.file.UploadJobResponse;
+import com.posty.postingapi.infrastructure.file.UploadJobStatus;
+import com.posty.postingapi.properties.MediaProperties;
+import com.posty.postingapi.properties.SchedulerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MediaUploadJobServiceTest {
+
+    private static final String SECRET = "callback-secret";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String TIMESTAMP = String.valueOf(NOW.getEpochSecond());
+
+    @Mock
+    private MediaService mediaService;
+
+    @Mock
+    private FileApiClient fileApiClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MediaUploadJobService mediaUploadJobService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+        MediaProperties mediaProperties = new MediaProperties();
+        mediaProperties.getUploadJob().setEnabled(true);
+        mediaProperties.getUploadJob().setCallbackUrl("https://posting.example.com/media/upload-jobs");
+        mediaProperties.getUploadJob().setCallbackSecret(SECRET);
+        mediaProperties.getUploadJob().setCallbackTolerance(Duration.ofMinutes(5));
+
+        SchedulerProperties schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getMedia().getUploadJob().setPollAfter(Duration.ofMinutes(1));
+        schedulerProperties.getMedia().getUploadJob().setBatchSize(100);
+
+        mediaUploadJobService = new MediaUploadJobService(
+                mediaService, fileApiClient,
+                new UploadJobCallbackVerifier(mediaProperties, clock),
+                objectMapper, clock,
+                mediaProperties, schedulerProperties
+        );
+    }
+
+    private Media waitingMedia(Long id, String jobId) {
+        return Media.builder().id(id).mediaType(MediaType.VIDEO).originUrl("https://example.com/" + id)
+                .status(MediaStatus.WAITING_UPLOAD).uploadJobId(jobId).build();
+    }
+
+    @Test
+    @DisplayName("작업 요청 - 미디어별 콜백 주소로 요청하고 작업 ID 기록")
+    void submit() {
+        // given
+        Media media = waitingMedia(1L, null);
+        UploadJobRequest request = new UploadJobRequest(
+                MediaType.VIDEO, "https://example.com/1", "1", "https://posting.example.com/media/upload-jobs/1"
+        );
+        given(fileApiClient.submitUploadJob(request))
+                .willReturn(new UploadJobResponse("job1", UploadJobStatus.PENDING, null, null, null));
+        given(mediaService.startUploadJob(1L, "job1")).willReturn(true);
+
+        // when
+        mediaUploadJobService.submit(media);
+
+        // then
+        verify(mediaService).startUploadJob(1L, "job1");
+    }
+
+    @Test
+    @DisplayName("콜백 - 서명이 맞으면 완료된 작업 결과 반영")
+    void handleCallback_Completed() throws Exception {
+        // given
+        UploadJobResponse job = new UploadJobResponse("job1", UploadJobStatus.COMPLETED, "https://files/a.mp4", "a.mp4", null);
+        String body = objectMapper.writeValueAsString(job);
+        FileUploadResponse response = new FileUploadResponse("https://files/a.mp4", "a.mp4");
+        given(mediaService.completeUploadJob(1L, "job1", response)).willReturn(true);
+
+        // when
+        mediaUploadJobService.handleCallback(1L, TIMESTAMP, sign(TIMESTAMP, body), body);
+
+        // then
+        verify(mediaService).completeUploadJob(1L, "job1", response);
+        verify(mediaService, never()).releaseUnappliedUpload(any(), any());
+    }
+
+    @Test
+    @DisplayName("콜백 - 기다리던 작업이 아니면 이 미디어로 추가된 참조를 해제")
+    void handleCallback_StaleJob() throws Exception {
+        // given
+        UploadJobResponse job = new UploadJobResponse("old", UploadJobStatus.COMPLETED, "https://files/a.mp4", "a.mp4", null);
+        String body = objectMapper.writeValueAsString(job);
+        FileUploadResponse response = new FileUploadResponse("https://files/a.mp4", "a.mp4");
+        given(mediaService.completeUploadJob(1L, "old", response)).willReturn(false);
+
+        // when
+        mediaUploadJobService.handleCallback(1L, TIMESTAMP, sign(TIMESTAMP, body), body);
+
+        // then
+        verify(mediaService).releaseUnappliedUpload(1L, response);
+    }
+
+    @Test
+    @DisplayName("콜백 실패 - 서명이 다르거나 오래된 타임스탬프면 401")
+    void handleCallback_InvalidSignature() throws Exception {
+        // given
+        String body = objectMapper.writeValueAsString(
+                new UploadJobResponse("job1", UploadJobStatus.FAILED, null, null, "error")
+        );
+        String oldTimestamp = String.valueOf(NOW.minus(Duration.ofMinutes(10)).getEpochSecond());
+
+        // when & then
+        assertThatThrownBy(() -> mediaUploadJobService.handleCallback(1L, TIMESTAMP, sign(TIMESTAMP, body + " "), body))
+                .isInstanceOf(InvalidAuthenticationException.class);
+        assertThatThrownBy(() -> mediaUploadJobService.handleCallback(1L, oldTimestamp, sign(oldTimestamp, body), body))
+                .isInstanceOf(InvalidAuthenticationException.class);
+        assertThatThrownBy(() -> mediaUploadJobService.handleCallback(1L, null, null, body))
+                .isInstanceOf(InvalidAuthenticationException.class);
+        verifyNoInteractions(mediaService);
+    }
+
+    @Test
+    @DisplayName("상태 조회 - 끝난 작업은 반영하고 진행 중인 작업은 그대로 둠")
+    void pollUnfinishedJobs() {
+        // given
+        LocalDateTime submittedBefore = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusMinutes(1);
+        given(mediaService.findMediaWithUploadJobsSubmittedBefore(submittedBefore, 100))
+                .willReturn(List.of(waitingMedia(1L, "job1"), waitingMedia(2L, "job2")));
+        given(fileApiClient.getUploadJob("job1"))
+                .willReturn(new UploadJobResponse("job1", UploadJobStatus.FAILED, null, null, "Invalid file"));
+        given(fileApiClient.getUploadJob("job2"))
+                .willReturn(new UploadJobResponse("job2", UploadJobStatus.RUNNING, null, null, null));
+        given(mediaService.failUploadJob(1L, "job1")).willReturn(true);
+
+        // when
+        mediaUploadJobService.pollUnfinishedJobs();
+
+        // then
+        verify(mediaService).failUploadJob(1L, "job1");
+        verify(mediaService, never()).failUploadJob(2L, "job2");
+    }
+
+    @Test
+    @DisplayName("상태 조회 - 파일 API에 작업이 없으면(만료, 다른 인스턴스) 재시도할 수 있도록 실패 처리")
+    void pollUnfinishedJobs_NotFound() {
+        // given
+        LocalDateTime submittedBefore = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusMinutes(1);
+        given(mediaService.findMediaWithUploadJobsSubmittedBefore(submittedBefore, 100))
+                .willReturn(List.of(waitingMedia(1L, "job1"), waitingMedia(2L, "job2")));
+        given(fileApiClient.getUploadJob("job1"))
+                .willThrow(new FileCommunicationException(HttpMethod.GET, HttpStatus.NOT_FOUND, null));
+        given(fileApiClient.getUploadJob("job2"))
+                .willThrow(new FileCommunicationException(HttpMethod.GET, new RuntimeException("timeout")));
+
+        // when
+        mediaUploadJobService.pollUnfinishedJobs();
+
+        // then
+        verify(mediaService).failUploadJob(1L, "job1");
+        verify(mediaService, never()).failUploadJob(2L, "job2");
+    }
+
+    private String sign(String timestamp, String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal((timestamp + "." + body).getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,18 +1,23 @@
 package com.posty.postingapi.service.application;
 
+import com.posty.postingapi.common.pagination.KeysetCursor;
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.account.AccountRepository;
 import com.posty.postingapi.domain.comment.CommentRepository;
+import com.posty.postingapi.domain.post.ContentType;
 import com.posty.postingapi.domain.post.Post;
 import com.posty.postingapi.domain.post.PostBlockRepository;
 import com.posty.postingapi.domain.post.PostRepository;
-import com.posty.postingapi.domain.post.PostBlock;
+import com.posty.postingapi.domain.post.PostBlockRow;
 import com.posty.postingapi.domain.post.event.PostChangedEvent;
 import com.posty.postingapi.domain.series.Series;
 import com.posty.postingapi.domain.series.SeriesRepository;
 import com.posty.postingapi.domain.series.event.SeriesChangedEvent;
+import com.posty.postingapi.dto.common.CursorPage;
 import com.posty.postingapi.dto.post.*;
+import com.posty.postingapi.error.InvalidCursorException;
 import com.posty.postingapi.error.ResourceNotFoundException;
+import com.posty.postingapi.infrastructure.cache.PostDetailCacheManager;
 import com.posty.postingapi.infrastructure.cache.WriterCacheManager;
 import com.posty.postingapi.properties.PaginationProperties;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,12 +35,16 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -61,6 +70,9 @@ class PostServiceTest {
     @Mock
     private WriterCacheManager writerCacheManager;
 
+    @Mock
+    private PostDetailCacheManager postDetailCacheManager;
+
     @Mock
     private MediaService mediaService;
 
@@ -76,7 +88,7 @@ class PostServiceTest {
         
         postService = new PostService(
                 postRepository, postBlockRepository, seriesRepository, accountRepository, commentRepository,
-                applicationEventPublisher, writerCacheManager, mediaService,
+                applicationEventPublisher, writerCacheManager, postDetailCacheManager, mediaService,
                 paginationProperties
         );
     }
@@ -88,11 +100,12 @@ class PostServiceTest {
         Long postId = 1L;
         Post post = Post.builder().id(postId).title("Title").build();
         List<String> writers = List.of("Writer");
-        Page<PostBlock> blockData = new PageImpl<>(List.of());
+        Page<PostBlockRow> blockData = new PageImpl<>(List.of());
 
         given(postRepository.findById(postId)).willReturn(Optional.of(post));
         given(writerCacheManager.loadWritersOfPosts(postId)).willReturn(writers);
-        given(postBlockRepository.findAllByPostId(eq(postId), any(Pageable.class))).willReturn(blockData);
+        given(postBlockRepository.findRowsByPostId(eq(postId), any(Pageable.class))).willReturn(blockData);
+        givenPostDetailCacheMiss(postId);
 
         // when
         PostDetailResponse response = postService.getPostDetail(postId, 0, 10);
@@ -103,18 +116,110 @@ class PostServiceTest {
         assertThat(response.getWriters()).containsExactly("Writer");
     }
 
+    @Test
+    @DisplayName("포스트 상세 조회 성공 - 캐시 적중 시 DB 조회 없음")
+    void getPostDetail_CacheHit() {
+        // given
+        Long postId = 1L;
+        PostDetailResponse cached = new PostDetailResponse(postId, "Cached", List.of("Writer"), null, null, Page.empty());
+        given(postDetailCacheManager.loadPostDetail(eq(postId), any())).willReturn(cached);
+
+        // when
+        PostDetailResponse response = postService.getPostDetail(postId, 0, 10);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("Cached");
+        verifyNoInteractions(postRepository, postBlockRepository, writerCacheManager);
+    }
+
+    @Test
+    @DisplayName("포스트 상세 조회 성공 - 첫 페이지가 아니면 캐시를 거치지 않음")
+    void getPostDetail_NotFirstPage_BypassCache() {
+        // given
+        Long postId = 1L;
+        Post post = Post.builder().id(postId).title("Title").build();
+
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(writerCacheManager.loadWritersOfPosts(postId)).willReturn(List.of("Writer"));
+        given(postBlockRepository.findRowsByPostId(eq(postId), any(Pageable.class))).willReturn(new PageImpl<>(List.of()));
+
+        // when
+        postService.getPostDetail(postId, 1, 10);
+
+        // then
+        verifyNoInteractions(postDetailCacheManager);
+    }
+
     @Test
     @DisplayName("포스트 조회 실패 - 존재하지 않는 포스트")
     void getPostDetail_NotFound() {
         // given
         Long postId = 1L;
         given(postRepository.findById(postId)).willReturn(Optional.empty());
+        givenPostDetailCacheMiss(postId);
 
         // when & then
         assertThatThrownBy(() -> postService.getPostDetail(postId, 0, 10))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("포스트 블록 커서 조회 성공 - 마지막 블록의 (순서, id)로 다음 커서 생성")
+    void getPostBlocks_NextCursor() {
+        // given
+        Long postId = 1L;
+        String cursor = KeysetCursor.of(2, 20L).encode();
+        List<PostBlockRow> rows = List.of(textBlockRow(30L, 3), textBlockRow(40L, 4), textBlockRow(50L, 5));
+
+        given(postRepository.existsById(postId)).willReturn(true);
+        given(postBlockRepository.findRowsByPostIdAfter(postId, 2, 20L, 3)).willReturn(rows);
+
+        // when
+        CursorPage<PostBlockResponse> result = postService.getPostBlocks(postId, cursor, 2, false);
+
+        // then
+        assertThat(result.getContent()).extracting(PostBlockResponse::getOrder).containsExactly(3, 4);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(KeysetCursor.of(4, 40L).encode());
+        verify(postBlockRepository, never()).countByPostId(postId);
+    }
+
+    @Test
+    @DisplayName("포스트 블록 커서 조회 실패 - 순서 값이 없는 커서")
+    void getPostBlocks_InvalidCursor() {
+        // given
+        Long postId = 1L;
+        given(postRepository.existsById(postId)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPostBlocks(postId, KeysetCursor.ofId(20L).encode(), 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("포스트 블록 커서 조회 실패 - 순서 값이 int 범위를 벗어난 커서")
+    void getPostBlocks_CursorKeyOutOfRange() {
+        // given
+        Long postId = 1L;
+        String cursor = KeysetCursor.of(Integer.MAX_VALUE + 1L, 20L).encode();
+        given(postRepository.existsById(postId)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPostBlocks(postId, cursor, 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(postBlockRepository);
+    }
+
+    private PostBlockRow textBlockRow(Long id, int orderNo) {
+        return new PostBlockRow(id, orderNo, 1L, "Writer", ContentType.TEXT, "text", null, null, null, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPostDetailCacheMiss(Long postId) {
+        given(postDetailCacheManager.loadPostDetail(eq(postId), any()))
+                .willAnswer(invocation -> ((Supplier<PostDetailResponse>) invocation.getArgument(1)).get());
+    }
+
     @Test
     @DisplayName("포스트 생성 성공")
     void createPost_Success() {
@@ -133,7 +238,7 @@ class PostServiceTest {
         request.normalize();
 
         given(seriesRepository.findById(seriesId)).willReturn(Optional.of(series));
-        given(accountRepository.findNonDeletedById(writerId)).willReturn(Optional.of(writer));
+        given(accountRepository.findNonDeletedByIdIn(List.of(writerId))).willReturn(List.of(writer));
 
         Post savedPost = Post.builder()
                 .id(postId)
@@ -155,6 +260,61 @@ class PostServiceTest {
         assertThat(eventCaptor.getValue().seriesId()).isEqualTo(seriesId);
     }
 
+    @Test
+    @DisplayName("포스트 생성 성공 - 작가는 블록 수와 관계없이 한 번에 조회")
+    void createPost_LoadWritersOnce() {
+        // given
+        Long seriesId = 1L;
+        Long writerId = 1L;
+        Series series = Series.builder().id(seriesId).build();
+        Account writer = Account.builder().id(writerId).name("writer").build();
+
+        PostCreateRequest request = new PostCreateRequest(
+                seriesId,
+                "Test Title",
+                List.of(
+                        new PostBlockCreateRequest(1, writerId, new TextContentRequest("First")),
+                        new PostBlockCreateRequest(2, writerId, new TextContentRequest("Second")),
+                        new PostBlockCreateRequest(3, writerId, new TextContentRequest("Third"))
+                )
+        );
+
+        given(seriesRepository.findById(seriesId)).willReturn(Optional.of(series));
+        given(accountRepository.findNonDeletedByIdIn(List.of(writerId))).willReturn(List.of(writer));
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        PostDetailResponse response = postService.createPost(request);
+
+        // then
+        assertThat(response.getWriters()).containsExactly("writer");
+        assertThat(response.getBlocks().getContent()).hasSize(3);
+        verify(accountRepository, times(1)).findNonDeletedByIdIn(anyList());
+        verify(accountRepository, never()).findNonDeletedById(anyLong());
+    }
+
+    @Test
+    @DisplayName("포스트 생성 실패 - 작가 없음")
+    void createPost_WriterNotFound() {
+        // given
+        Long seriesId = 1L;
+        Long writerId = 1L;
+        Series series = Series.builder().id(seriesId).build();
+
+        PostCreateRequest request = new PostCreateRequest(
+                seriesId,
+                "Test Title",
+                List.of(new PostBlockCreateRequest(1, writerId, new TextContentRequest("Test Content")))
+        );
+
+        given(seriesRepository.findById(seriesId)).willReturn(Optional.of(series));
+        given(accountRepository.findNonDeletedByIdIn(List.of(writerId))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> postService.createPost(request))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("포스트 생성 실패 - 시리즈 없음")
     void createPost_SeriesNotFound() {
@@ -3,7 +3,9 @@ package com.posty.postingapi.service.application;
 import com.posty.postingapi.domain.account.Account;
 import com.posty.postingapi.domain.account.AccountRepository;
 import com.posty.postingapi.domain.comment.CommentRepository;
+import com.posty.postingapi.domain.post.Post;
 import com.posty.postingapi.domain.post.PostRepository;
+import com.posty.postingapi.domain.post.event.PostChangedEvent;
 import com.posty.postingapi.domain.series.Series;
 import com.posty.postingapi.domain.series.SeriesRepository;
 import com.posty.postingapi.domain.series.event.SeriesChangedEvent;
@@ -32,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -227,6 +230,29 @@ class SeriesServiceTest {
         assertThat(eventCaptor.getValue().seriesId()).isEqualTo(seriesId);
     }
 
+    @Test
+    @DisplayName("시리즈 삭제 성공 - 소속 포스트 변경 이벤트 발행")
+    void deleteSeries_PublishPostChangedEvents() {
+        // given
+        Long seriesId = 1L;
+        Series series = Series.builder().id(seriesId).build();
+        series.getPosts().add(Post.builder().id(10L).series(series).build());
+        series.getPosts().add(Post.builder().id(11L).series(series).build());
+        given(seriesRepository.findById(seriesId)).willReturn(Optional.of(series));
+        given(mediaService.findMediaBySeriesId(seriesId)).willReturn(List.of());
+
+        // when
+        seriesService.deleteSeries(seriesId);
+
+        // then
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, times(3)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .filteredOn(PostChangedEvent.class::isInstance)
+                .extracting(event -> ((PostChangedEvent) event).postId())
+                .containsExactly(10L, 11L);
+    }
+
     @Test
     @DisplayName("계정별 시리즈 목록 조회 성공")
     void getSeriesByManager_Success() {
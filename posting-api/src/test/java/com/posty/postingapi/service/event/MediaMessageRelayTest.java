@@ -1,32 +1,35 @@
 package com.posty.postingapi.service.event;
 
+import com.posty.postingapi.domain.post.MediaOutbox;
+import com.posty.postingapi.domain.post.MediaOutboxRepository;
 import com.posty.postingapi.domain.post.event.MediaChangedEvent;
-import com.posty.postingapi.infrastructure.mq.MediaEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class MediaMessageRelayTest {
 
     @Mock
-    MediaEventPublisher mediaEventPublisher;
+    MediaOutboxRepository mediaOutboxRepository;
 
     MediaMessageRelay handler;
 
     @BeforeEach
     void setUp() {
-        handler = new MediaMessageRelay(mediaEventPublisher);
+        handler = new MediaMessageRelay(mediaOutboxRepository);
     }
 
     @Test
-    @DisplayName("미디어 변경 이벤트 처리 - 생성 시 업로드 메시지 발행")
-    void handleMediaChangedEvent_PublishUploadMessage() {
+    @DisplayName("미디어 변경 이벤트 처리 - 생성 시 업로드 메시지를 outbox에 기록")
+    void handleMediaChangedEvent_SaveUploadMessage() {
         // given
         Long mediaId = 100L;
         MediaChangedEvent event = new MediaChangedEvent(mediaId, MediaChangedEvent.MediaChangeType.CREATED);
@@ -35,12 +38,15 @@ public class MediaMessageRelayTest {
         handler.handle(event);
 
         // then
-        verify(mediaEventPublisher).publishMediaUpload(mediaId);
+        ArgumentCaptor<MediaOutbox> captor = ArgumentCaptor.forClass(MediaOutbox.class);
+        verify(mediaOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getMediaId()).isEqualTo(mediaId);
+        assertThat(captor.getValue().getChangeType()).isEqualTo(MediaChangedEvent.MediaChangeType.CREATED);
     }
 
     @Test
-    @DisplayName("미디어 변경 이벤트 처리 - 삭제 시 삭제 메시지 발행")
-    void handleMediaChangedEvent_PublishDeleteMessage() {
+    @DisplayName("미디어 변경 이벤트 처리 - 삭제 시 삭제 메시지를 outbox에 기록")
+    void handleMediaChangedEvent_SaveDeleteMessage() {
         // given
         Long mediaId = 100L;
         MediaChangedEvent event = new MediaChangedEvent(mediaId, MediaChangedEvent.MediaChangeType.DELETED);
@@ -49,6 +55,9 @@ public class MediaMessageRelayTest {
         handler.handle(event);
 
         // then
-        verify(mediaEventPublisher).publishMediaDelete(mediaId);
+        ArgumentCaptor<MediaOutbox> captor = ArgumentCaptor.forClass(MediaOutbox.class);
+        verify(mediaOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getMediaId()).isEqualTo(mediaId);
+        assertThat(captor.getValue().getChangeType()).isEqualTo(MediaChangedEvent.MediaChangeType.DELETED);
     }
 }
@@ -1,6 +1,7 @@
 package com.posty.postingapi.service.event;
 
 import com.posty.postingapi.domain.post.event.PostChangedEvent;
+import com.posty.postingapi.infrastructure.cache.PostDetailCacheManager;
 import com.posty.postingapi.infrastructure.cache.WriterCacheManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +18,14 @@ public class PostEventListenerTest {
     @Mock
     WriterCacheManager writerCacheManager;
 
+    @Mock
+    PostDetailCacheManager postDetailCacheManager;
+
     PostEventListener handler;
 
     @BeforeEach
     void setUp() {
-        handler = new PostEventListener(writerCacheManager);
+        handler = new PostEventListener(writerCacheManager, postDetailCacheManager);
     }
 
     @Test
@@ -36,4 +40,17 @@ public class PostEventListenerTest {
         // then
         verify(writerCacheManager).clearWritersOfPosts(event.postId(), event.seriesId());
     }
+
+    @Test
+    @DisplayName("포스트 변경 이벤트 처리 - 포스트 상세정보 캐시 무효화")
+    void handlePostChangedEvent_ClearPostDetailCache() {
+        // given
+        PostChangedEvent event = new PostChangedEvent(1L, 10L);
+
+        // when
+        handler.handle(event);
+
+        // then
+        verify(postDetailCacheManager).clearPostDetail(event.postId());
+    }
 }
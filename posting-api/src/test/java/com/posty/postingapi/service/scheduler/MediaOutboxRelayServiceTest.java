@@ -0,0 +1,85 @@
+package com.posty.postingapi.service.scheduler;
+
+import com.posty.postingapi.domain.post.MediaOutbox;
+import com.posty.postingapi.domain.post.MediaOutboxRepository;
+import com.posty.postingapi.domain.post.event.MediaChangedEvent;
+import com.posty.postingapi.infrastructure.mq.MediaEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jms.UncategorizedJmsException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaOutboxRelayServiceTest {
+
+    @Mock
+    private MediaOutboxRepository mediaOutboxRepository;
+
+    @Mock
+    private MediaEventPublisher mediaEventPublisher;
+
+    private MediaOutboxRelayService mediaOutboxRelayService;
+
+    @BeforeEach
+    void setUp() {
+        mediaOutboxRelayService = new MediaOutboxRelayService(mediaOutboxRepository, mediaEventPublisher);
+    }
+
+    private MediaOutbox outbox(Long id, Long mediaId, MediaChangedEvent.MediaChangeType changeType) {
+        return MediaOutbox.builder().id(id).mediaId(mediaId).changeType(changeType).build();
+    }
+
+    @Test
+    @DisplayName("outbox 릴레이 - 전송 후 전송된 메시지 삭제")
+    void relayPendingMessages_SendAndDelete() {
+        // given
+        given(mediaOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).willReturn(List.of(
+                outbox(1L, 100L, MediaChangedEvent.MediaChangeType.CREATED),
+                outbox(2L, 200L, MediaChangedEvent.MediaChangeType.DELETED)
+        ));
+
+        // when
+        int relayed = mediaOutboxRelayService.relayPendingMessages(10);
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(mediaEventPublisher).publishMediaUpload(100L);
+        verify(mediaEventPublisher).publishMediaDelete(200L);
+        verify(mediaOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("outbox 릴레이 - 브로커 오류 시 그 전까지 전송된 메시지만 삭제")
+    void relayPendingMessages_StopOnBrokerFailure() {
+        // given
+        given(mediaOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).willReturn(List.of(
+                outbox(1L, 100L, MediaChangedEvent.MediaChangeType.CREATED),
+                outbox(2L, 200L, MediaChangedEvent.MediaChangeType.CREATED),
+                outbox(3L, 300L, MediaChangedEvent.MediaChangeType.CREATED)
+        ));
+        willDoNothing().willThrow(new UncategorizedJmsException("broker down"))
+                .given(mediaEventPublisher).publishMediaUpload(anyLong());
+
+        // when
+        int relayed = mediaOutboxRelayService.relayPendingMessages(10);
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        verify(mediaEventPublisher, times(2)).publishMediaUpload(anyLong());
+        verify(mediaOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+}
@@ -14,11 +14,11 @@ create table post_block (
     foreign key (media_id) references media(id)
 );
 
-# drop index idx_post_block_post on post_block;
-create index idx_post_block_post on post_block(post_id);
+# drop index idx_post_block_post_order on post_block;
+create index idx_post_block_post_order on post_block(post_id, order_no);
 
-# drop index idx_post_block_writer on post_block;
-create index idx_post_block_writer on post_block(writer_id);
+# drop index idx_post_block_writer_post on post_block;
+create index idx_post_block_writer_post on post_block(writer_id, post_id);
 
 # drop index idx_post_block_media on post_block;
 create index idx_post_block_media ON post_block(media_id);
\ No newline at end of file
@@ -4,14 +4,19 @@ create table media (
     media_type varchar(50) not null,
     origin_url varchar(500) not null,
     stored_url varchar(500),
-    stored_filename varchar(64),
+    stored_filename varchar(100),
     status varchar(30) not null,
     upload_attempt_count int not null default 0,
     delete_attempt_count int not null default 0,
     created_at datetime not null default current_timestamp,
     last_upload_attempt_at datetime,
-    last_delete_attempt_at datetime
+    last_delete_attempt_at datetime,
+    upload_job_id varchar(64),
+    upload_job_submitted_at datetime
 );
 
 # drop index idx_media_status on media;
-create index idx_media_status on media(status);
\ No newline at end of file
+create index idx_media_status on media(status);
+
+# drop index idx_media_origin_url on media;
+create index idx_media_origin_url on media(origin_url);
\ No newline at end of file
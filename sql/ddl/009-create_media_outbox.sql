@@ -0,0 +1,7 @@
+# drop table if exists media_outbox;
+create table media_outbox (
+    id bigint auto_increment primary key,
+    media_id bigint not null,
+    change_type varchar(30) not null,
+    created_at datetime not null default current_timestamp
+);